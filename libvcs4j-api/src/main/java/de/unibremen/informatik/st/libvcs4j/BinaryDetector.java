@@ -0,0 +1,199 @@
+package de.unibremen.informatik.st.libvcs4j;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Guesses whether a file is binary (see {@link VCSFile#isBinary(byte[],
+ * String)}). The classification is done in memory and inspects at most
+ * {@link #SCAN_LIMIT} bytes of a file.
+ */
+class BinaryDetector {
+
+	/**
+	 * The maximum number of bytes inspected (same as Git).
+	 */
+	static final int SCAN_LIMIT = 8000;
+
+	/**
+	 * Extensions of files that are binary regardless of their content.
+	 */
+	private static final Set<String> BINARY_EXTENSIONS = new HashSet<>(
+			Arrays.asList(
+					// Archives
+					"7z", "bz2", "ear", "gz", "jar", "rar", "tar", "tgz",
+					"war", "xz", "zip",
+					// Audio and video
+					"avi", "flac", "mkv", "mov", "mp3", "mp4", "ogg", "wav",
+					// Compiled code and libraries
+					"a", "class", "dex", "dll", "dylib", "exe", "lib", "o",
+					"obj", "pyc", "so",
+					// Documents
+					"doc", "docx", "odp", "ods", "odt", "pdf", "ppt", "pptx",
+					"xls", "xlsx",
+					// Fonts
+					"eot", "otf", "ttf", "woff", "woff2",
+					// Images
+					"bmp", "gif", "icns", "ico", "jpeg", "jpg", "png", "psd",
+					"tif", "tiff", "webp",
+					// Others
+					"bin", "db", "dmg", "iso", "jks", "keystore", "p12",
+					"sqlite", "swf"));
+
+	/**
+	 * Extensions of source code files. Used to apply a lower tolerance for
+	 * non-text bytes.
+	 */
+	private static final Set<String> SOURCE_EXTENSIONS = new HashSet<>(
+			Arrays.asList(
+					// C
+					"c", "h",
+					// C++
+					"cc", "hh", "cpp", "hpp", "cxx", "hxx",
+					// CSS
+					"css",
+					// C#
+					"cs",
+					// Groovy
+					"groovy",
+					// HTML
+					"html",
+					// Java
+					"java",
+					// Javascript
+					"js",
+					// JSF
+					"xhtml",
+					// Kotlin
+					"kt",
+					// Markdown
+					"md",
+					// PHP
+					"php",
+					// Python
+					"py",
+					// Scala
+					"scala",
+					// Tex
+					"tex",
+					// Typescript
+					"ts"));
+
+	/**
+	 * Static only class.
+	 */
+	private BinaryDetector() {
+		// Static only class.
+	}
+
+	/**
+	 * Guesses whether the given content is binary.
+	 *
+	 * A file is considered binary if its extension is listed in
+	 * {@link #BINARY_EXTENSIONS}. Otherwise, the first {@link #SCAN_LIMIT}
+	 * bytes are inspected: A byte order mark (UTF-8, UTF-16, and UTF-32)
+	 * indicates a text file, a NUL byte indicates a binary file. Remaining
+	 * files are binary if the ratio of control characters (and, unless the
+	 * inspected bytes are valid UTF-8, of non-ASCII bytes) exceeds a
+	 * threshold which is lower for source code files.
+	 *
+	 * @param bytes
+	 * 		The content of a file.
+	 * @param fileName
+	 * 		The name of the file.
+	 * @return
+	 * 		{@code true} if the given content is binary, {@code false}
+	 * 		otherwise.
+	 */
+	static boolean isBinary(final byte[] bytes, final String fileName) {
+		final String extension = extensionOf(fileName);
+		if (BINARY_EXTENSIONS.contains(extension)) {
+			return true;
+		}
+		if (bytes.length == 0 || hasByteOrderMark(bytes)) {
+			return false;
+		}
+
+		final int length = Math.min(bytes.length, SCAN_LIMIT);
+		int numControl = 0;
+		int numNonASCII = 0;
+		boolean utf8 = true;
+		// Number of outstanding continuation bytes of a UTF-8 sequence.
+		int pending = 0;
+		for (int i = 0; i < length; i++) {
+			final int b = bytes[i] & 0xFF;
+			if (b == 0x00) {
+				return true;
+			} else if (b < 0x80) {
+				if (pending > 0) {
+					utf8 = false;
+					pending = 0;
+				}
+				if ((b < 0x20 && b != 0x09 && // \t
+						b != 0x0A &&          // \n
+						b != 0x0C &&          // \f
+						b != 0x0D &&          // \r
+						b != 0x1B) ||         // ESC (ANSI escape codes)
+						b == 0x7F) {          // DEL
+					numControl++;
+				}
+				continue;
+			}
+			numNonASCII++;
+			if (pending > 0) {
+				if ((b & 0xC0) == 0x80) {
+					pending--;
+				} else {
+					utf8 = false;
+					pending = 0;
+				}
+			} else if (b >= 0xC2 && b <= 0xDF) {
+				pending = 1;
+			} else if (b >= 0xE0 && b <= 0xEF) {
+				pending = 2;
+			} else if (b >= 0xF0 && b <= 0xF4) {
+				pending = 3;
+			} else {
+				utf8 = false;
+			}
+		}
+		// A sequence may be truncated by the scan limit, but not by EOF.
+		if (pending > 0 && length == bytes.length) {
+			utf8 = false;
+		}
+
+		final int numNonText = utf8 ? numControl : numControl + numNonASCII;
+		final double nonTextRatio = (double) numNonText / length;
+		return SOURCE_EXTENSIONS.contains(extension)
+				? nonTextRatio > 0.3
+				: nonTextRatio > 0.95;
+	}
+
+	private static String extensionOf(final String fileName) {
+		final int dot = fileName.lastIndexOf('.');
+		return dot < 0
+				? ""
+				: fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+	}
+
+	private static boolean hasByteOrderMark(final byte[] bytes) {
+		return startsWith(bytes, 0xEF, 0xBB, 0xBF) ||   // UTF-8
+				startsWith(bytes, 0xFE, 0xFF) ||        // UTF-16BE
+				startsWith(bytes, 0xFF, 0xFE) ||        // UTF-16LE, UTF-32LE
+				startsWith(bytes, 0x00, 0x00, 0xFE, 0xFF); // UTF-32BE
+	}
+
+	private static boolean startsWith(final byte[] bytes, final int... prefix) {
+		if (bytes.length < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if ((bytes[i] & 0xFF) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
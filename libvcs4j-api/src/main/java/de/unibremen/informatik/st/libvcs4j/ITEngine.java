@@ -5,12 +5,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -139,11 +141,97 @@ public interface ITEngine {
 		}
 	}
 
+	/**
+	 * Asynchronously returns all issues referenced by the given commit (see
+	 * {@link #getIssuesFor(Commit)}). This method does not fail if
+	 * {@code commit} is {@code null}.
+	 *
+	 * The default implementation delegates {@code commit} to
+	 * {@link #getIssuesForAsync(List, Executor)}.
+	 *
+	 * @param commit
+	 *      The commit to parse.
+	 * @param executor
+	 *      The executor used to fetch the referenced issues.
+	 * @return
+	 *      A future of the referenced issues. Completes exceptionally if an
+	 *      error occurred while retrieving an issue.
+	 * @throws NullPointerException
+	 *      If {@code executor} is {@code null}.
+	 */
+	default CompletableFuture<List<Issue>> getIssuesForAsync(
+			final Commit commit, final Executor executor)
+			throws NullPointerException {
+		return getIssuesForAsync(Collections.singletonList(commit), executor);
+	}
+
+	/**
+	 * Asynchronously returns all issues referenced by the given list of
+	 * commits (see {@link #getIssuesFor(List)}). This method does not fail if
+	 * {@code commits} is {@code null} or contains {@code null} values and
+	 * does not return the same issue (according to {@link Issue#getId()})
+	 * twice.
+	 *
+	 * The default implementation parses the commit messages using
+	 * {@link #parseIssueIds(String)} and fetches the issue of each distinct
+	 * id in a separate task of {@code executor} using
+	 * {@link #getIssueById(String)}. That is, the issues of a commit are
+	 * fetched concurrently if {@code executor} has several threads.
+	 *
+	 * @param commits
+	 *      The commits to parse.
+	 * @param executor
+	 *      The executor used to fetch the referenced issues.
+	 * @return
+	 *      A future of the referenced issues. Completes exceptionally if an
+	 *      error occurred while retrieving an issue.
+	 * @throws NullPointerException
+	 *      If {@code executor} is {@code null}.
+	 */
+	default CompletableFuture<List<Issue>> getIssuesForAsync(
+			final List<Commit> commits, final Executor executor)
+			throws NullPointerException {
+		Validate.notNull(executor);
+		final Set<String> ids = new LinkedHashSet<>();
+		(commits == null ? Collections.<Commit>emptyList() : commits)
+				.stream()
+				.filter(Objects::nonNull)
+				.map(Commit::getMessage)
+				.map(this::parseIssueIds)
+				.forEach(ids::addAll);
+		final List<CompletableFuture<Optional<Issue>>> futures =
+				new ArrayList<>();
+		for (final String id : ids) {
+			final CompletableFuture<Optional<Issue>> future =
+					new CompletableFuture<>();
+			try {
+				executor.execute(() -> {
+					try {
+						future.complete(getIssueById(id));
+					} catch (final IOException | RuntimeException e) {
+						future.completeExceptionally(e);
+					}
+				});
+			} catch (final RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+			futures.add(future);
+		}
+		return CompletableFuture
+				.allOf(futures.toArray(new CompletableFuture[0]))
+				.thenApply(v -> futures.stream()
+						.map(CompletableFuture::join)
+						.filter(Optional::isPresent)
+						.map(Optional::get)
+						.collect(Collectors.toList()));
+	}
+
 	/**
 	 * Parses the given text and returns all referenced issue ids. This method
 	 * does not fail if {@code text} is {@code null}.
 	 *
-	 * The default implementation searches for patterns like '#6'.
+	 * The default implementation searches for patterns like '#6' (see
+	 * {@link IssueIdExtractor#DEFAULT}).
 	 *
 	 * @param text
 	 *      The text to parse.
@@ -151,17 +239,6 @@ public interface ITEngine {
 	 *      The referenced issue ids.
 	 */
 	default List<String> parseIssueIds(final String text) {
-		final List<String> ids = new ArrayList<>();
-		if (text != null) {
-			final Matcher matcher = Pattern
-					.compile("#(\\d+)")
-					.matcher(text);
-			while (matcher.find()) {
-				String id = matcher.group();
-				id = id.substring(1, id.length());
-				ids.add(id);
-			}
-		}
-		return ids;
+		return IssueIdExtractor.DEFAULT.extract(text);
 	}
 }
@@ -0,0 +1,343 @@
+package de.unibremen.informatik.st.libvcs4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts issue ids from texts, such as commit messages (see
+ * {@link ITEngine#parseIssueIds(String)}). An extractor is configured with a
+ * set of {@link Reference}s, each consisting of a literal prefix (for
+ * example, '#' or 'PROJ-') and a pattern describing the id following the
+ * prefix (for example, '\d+'). All patterns are compiled once. A text is
+ * scanned in a single pass for all prefixes at the same time (using an
+ * Aho-Corasick automaton). The id pattern of a reference is matched only
+ * if its prefix has been found, and only at the position following the
+ * prefix. Apart from the returned ids, scanning a text does not allocate
+ * any strings.
+ *
+ * Instances of this class are immutable and thus thread safe.
+ */
+public class IssueIdExtractor {
+
+	/**
+	 * Extracts ids referenced with '#' (for example, '#6' yields '6').
+	 */
+	public static final IssueIdExtractor DEFAULT =
+			new IssueIdExtractor(Collections.singletonList(Reference.hash()));
+
+	/**
+	 * Describes how issues are referenced.
+	 */
+	public static class Reference {
+
+		private final String prefix;
+
+		private final Pattern id;
+
+		private final boolean includePrefix;
+
+		private final boolean wordStart;
+
+		/**
+		 * Creates a new reference.
+		 *
+		 * @param pPrefix
+		 * 		The literal prefix of the reference.
+		 * @param pIdRegex
+		 * 		The pattern of the id following {@code pPrefix}.
+		 * @param pIncludePrefix
+		 * 		Whether {@code pPrefix} is part of the extracted id.
+		 * @param pWordStart
+		 * 		Whether {@code pPrefix} must not follow a letter or digit.
+		 * @throws NullPointerException
+		 * 		If any of the given arguments is {@code null}.
+		 * @throws IllegalArgumentException
+		 * 		If {@code pPrefix} is empty or if {@code pIdRegex} is not a
+		 * 		valid regular expression.
+		 */
+		public Reference(final String pPrefix, final String pIdRegex,
+				final boolean pIncludePrefix, final boolean pWordStart)
+				throws NullPointerException, IllegalArgumentException {
+			prefix = Validate.notEmpty(pPrefix);
+			id = Pattern.compile(Validate.notNull(pIdRegex));
+			includePrefix = pIncludePrefix;
+			wordStart = pWordStart;
+		}
+
+		/**
+		 * Creates a reference of the form '#6' which yields '6'.
+		 *
+		 * @return
+		 * 		The created reference.
+		 */
+		public static Reference hash() {
+			return new Reference("#", "\\d+", false, false);
+		}
+
+		/**
+		 * Creates a reference of the form '!6' (Gitlab merge requests) which
+		 * yields '6'.
+		 *
+		 * @return
+		 * 		The created reference.
+		 */
+		public static Reference mergeRequest() {
+			return new Reference("!", "\\d+", false, true);
+		}
+
+		/**
+		 * Creates a reference of the form 'KEY-6' (Jira) which yields
+		 * 'KEY-6'.
+		 *
+		 * @param pKey
+		 * 		The key of the project.
+		 * @return
+		 * 		The created reference.
+		 * @throws NullPointerException
+		 * 		If {@code pKey} is {@code null}.
+		 * @throws IllegalArgumentException
+		 * 		If {@code pKey} is empty.
+		 */
+		public static Reference jira(final String pKey)
+				throws NullPointerException, IllegalArgumentException {
+			return new Reference(Validate.notEmpty(pKey) + "-", "\\d+",
+					true, true);
+		}
+
+		/**
+		 * Creates a reference of the form '{@code pUrl}6' which yields '6'.
+		 * For example, 'https://github.com/owner/repo/issues/'.
+		 *
+		 * @param pUrl
+		 * 		The URL of the issues.
+		 * @return
+		 * 		The created reference.
+		 * @throws NullPointerException
+		 * 		If {@code pUrl} is {@code null}.
+		 * @throws IllegalArgumentException
+		 * 		If {@code pUrl} is empty.
+		 */
+		public static Reference url(final String pUrl)
+				throws NullPointerException, IllegalArgumentException {
+			return new Reference(pUrl, "\\d+", false, false);
+		}
+
+		public String getPrefix() {
+			return prefix;
+		}
+
+		public Pattern getId() {
+			return id;
+		}
+
+		public boolean isIncludePrefix() {
+			return includePrefix;
+		}
+
+		public boolean isWordStart() {
+			return wordStart;
+		}
+	}
+
+	/**
+	 * The configured references.
+	 */
+	private final List<Reference> references;
+
+	/* The Aho-Corasick automaton of the prefixes of references. State 0 is
+	 * the root. The outgoing transitions of a state are sorted by char. */
+	private final char[][] edgeChars;
+	private final int[][] edgeTargets;
+	private final int[] fail;
+	/* state -> indices of the references whose prefix ends in state */
+	private final int[][] outputs;
+	/* Bitset of the first chars of all prefixes. Most chars of a text are
+	 * skipped using a single lookup. */
+	private final long[] firstChars = new long[(Character.MAX_VALUE + 1) / 64];
+
+	/**
+	 * Creates a new extractor.
+	 *
+	 * @param pReferences
+	 * 		The references to extract.
+	 * @throws NullPointerException
+	 * 		If {@code pReferences} is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code pReferences} contains {@code null}.
+	 */
+	public IssueIdExtractor(final Collection<Reference> pReferences)
+			throws NullPointerException, IllegalArgumentException {
+		Validate.noNullElements(pReferences);
+		references = Collections.unmodifiableList(
+				new ArrayList<>(pReferences));
+
+		// Build the trie.
+		final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		final List<List<Integer>> out = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		out.add(new ArrayList<>());
+		for (int i = 0; i < references.size(); i++) {
+			int state = 0;
+			for (final char c : references.get(i).prefix.toCharArray()) {
+				Integer next = trie.get(state).get(c);
+				if (next == null) {
+					next = trie.size();
+					trie.add(new TreeMap<>());
+					out.add(new ArrayList<>());
+					trie.get(state).put(c, next);
+				}
+				state = next;
+			}
+			out.get(state).add(i);
+		}
+
+		trie.get(0).keySet().forEach(c -> firstChars[c >>> 6] |= 1L << c);
+
+		final int numStates = trie.size();
+		edgeChars = new char[numStates][];
+		edgeTargets = new int[numStates][];
+		for (int s = 0; s < numStates; s++) {
+			final TreeMap<Character, Integer> edges = trie.get(s);
+			edgeChars[s] = new char[edges.size()];
+			edgeTargets[s] = new int[edges.size()];
+			int j = 0;
+			for (final Map.Entry<Character, Integer> e : edges.entrySet()) {
+				edgeChars[s][j] = e.getKey();
+				edgeTargets[s][j] = e.getValue();
+				j++;
+			}
+		}
+
+		// Compute the failure links (breadth first).
+		fail = new int[numStates];
+		final Deque<Integer> queue = new ArrayDeque<>();
+		for (final int target : edgeTargets[0]) {
+			queue.add(target);
+		}
+		while (!queue.isEmpty()) {
+			final int s = queue.poll();
+			for (int j = 0; j < edgeChars[s].length; j++) {
+				final char c = edgeChars[s][j];
+				final int t = edgeTargets[s][j];
+				int f = fail[s];
+				while (f != 0 && transition(f, c) < 0) {
+					f = fail[f];
+				}
+				final int g = transition(f, c);
+				fail[t] = g >= 0 ? g : 0;
+				out.get(t).addAll(out.get(fail[t]));
+				queue.add(t);
+			}
+		}
+
+		outputs = new int[numStates][];
+		for (int s = 0; s < numStates; s++) {
+			// Report references in the order they have been configured.
+			outputs[s] = out.get(s).stream()
+					.mapToInt(Integer::intValue)
+					.sorted()
+					.toArray();
+		}
+	}
+
+	/**
+	 * Creates a new extractor.
+	 *
+	 * @param pReferences
+	 * 		The references to extract.
+	 * @return
+	 * 		The created extractor.
+	 * @throws NullPointerException
+	 * 		If {@code pReferences} is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code pReferences} contains {@code null}.
+	 */
+	public static IssueIdExtractor of(final Reference... pReferences)
+			throws NullPointerException, IllegalArgumentException {
+		return new IssueIdExtractor(Arrays.asList(
+				Validate.notNull(pReferences)));
+	}
+
+	/**
+	 * Returns the configured references.
+	 *
+	 * @return
+	 * 		The configured references.
+	 */
+	public List<Reference> getReferences() {
+		return references;
+	}
+
+	/**
+	 * Returns all issue ids referenced in the given text in the order they
+	 * appear. Does not remove duplicates. This method does not fail if
+	 * {@code pText} is {@code null}.
+	 *
+	 * @param pText
+	 * 		The text to scan.
+	 * @return
+	 * 		The referenced issue ids.
+	 */
+	public List<String> extract(final CharSequence pText) {
+		final List<String> ids = new ArrayList<>();
+		if (pText == null) {
+			return ids;
+		}
+		final int length = pText.length();
+		// Created on demand as most texts do not reference any issue.
+		Matcher[] matchers = null;
+		int state = 0;
+		for (int i = 0; i < length; i++) {
+			final char c = pText.charAt(i);
+			if (state == 0 && (firstChars[c >>> 6] & (1L << c)) == 0) {
+				continue;
+			}
+			int next;
+			while ((next = transition(state, c)) < 0 && state != 0) {
+				state = fail[state];
+			}
+			state = next >= 0 ? next : 0;
+			for (final int r : outputs[state]) {
+				final Reference reference = references.get(r);
+				final int start = i + 1 - reference.prefix.length();
+				if (reference.wordStart && start > 0 &&
+						Character.isLetterOrDigit(pText.charAt(start - 1))) {
+					continue;
+				}
+				if (matchers == null) {
+					matchers = new Matcher[references.size()];
+				}
+				if (matchers[r] == null) {
+					matchers[r] = reference.id.matcher(pText);
+				}
+				final Matcher matcher = matchers[r];
+				matcher.region(i + 1, length);
+				if (matcher.lookingAt() && matcher.end() > i + 1) {
+					ids.add(pText.subSequence(reference.includePrefix
+							? start : i + 1, matcher.end()).toString());
+				}
+			}
+		}
+		return ids;
+	}
+
+	///////////////////////////// helping methods /////////////////////////////
+
+	/**
+	 * Returns the target of the transition of {@code pState} with
+	 * {@code pChar}, or {@code -1} if there is no such transition.
+	 */
+	private int transition(final int pState, final char pChar) {
+		final int idx = Arrays.binarySearch(edgeChars[pState], pChar);
+		return idx >= 0 ? edgeTargets[pState][idx] : -1;
+	}
+}
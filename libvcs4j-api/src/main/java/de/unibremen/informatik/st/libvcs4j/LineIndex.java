@@ -0,0 +1,141 @@
+package de.unibremen.informatik.st.libvcs4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An index of the lines of a file (see {@link VCSFile#readLineIndex()}).
+ * Lines include their EOL characters (see {@link VCSFile#readLinesWithEOL()})
+ * such that the offset of a line is the sum of the lengths of its preceding
+ * lines. The offset of a line is looked up in constant time, the line of an
+ * offset in logarithmic time. Lines are addressed with origin 1.
+ *
+ * Instances of this class are immutable.
+ */
+public class LineIndex {
+
+	/**
+	 * The lines including EOL characters.
+	 */
+	private final List<String> lines;
+
+	/**
+	 * The offset of line {@code i} is stored at index {@code i - 1}. The last
+	 * element is the total number of characters.
+	 */
+	private final int[] offsets;
+
+	/**
+	 * Creates a new index of the given lines.
+	 *
+	 * @param pLines
+	 * 		The lines including EOL characters (see
+	 * 		{@link VCSFile#readLinesWithEOL()}).
+	 * @throws NullPointerException
+	 * 		If {@code pLines} is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code pLines} contains {@code null}.
+	 */
+	public LineIndex(final List<String> pLines) throws NullPointerException,
+			IllegalArgumentException {
+		Validate.noNullElements(pLines);
+		lines = new ArrayList<>(pLines);
+		offsets = new int[lines.size() + 1];
+		for (int i = 0; i < lines.size(); i++) {
+			offsets[i + 1] = offsets[i] + lines.get(i).length();
+		}
+	}
+
+	/**
+	 * Returns the number of lines.
+	 *
+	 * @return
+	 * 		The number of lines.
+	 */
+	public int getNumLines() {
+		return lines.size();
+	}
+
+	/**
+	 * Returns the total number of characters (including EOL characters).
+	 *
+	 * @return
+	 * 		The total number of characters.
+	 */
+	public int getLength() {
+		return offsets[offsets.length - 1];
+	}
+
+	/**
+	 * Returns the given line including EOL characters.
+	 *
+	 * @param line
+	 * 		The line to return.
+	 * @return
+	 * 		The given line including EOL characters.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such line.
+	 */
+	public String getLine(final int line) throws IndexOutOfBoundsException {
+		return lines.get(line - 1);
+	}
+
+	/**
+	 * Returns the length of the given line excluding EOL characters.
+	 *
+	 * @param line
+	 * 		The line whose length is returned.
+	 * @return
+	 * 		The length of the given line excluding EOL characters.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such line.
+	 */
+	public int getLineLength(final int line) throws IndexOutOfBoundsException {
+		final String lineStr = getLine(line);
+		int length = lineStr.length();
+		while (length > 0 && (lineStr.charAt(length - 1) == '\n'
+				|| lineStr.charAt(length - 1) == '\r')) {
+			length--;
+		}
+		return length;
+	}
+
+	/**
+	 * Returns the offset of the first character of the given line.
+	 *
+	 * @param line
+	 * 		The line whose offset is returned.
+	 * @return
+	 * 		The offset of the first character of the given line.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such line.
+	 */
+	public int getOffset(final int line) throws IndexOutOfBoundsException {
+		if (line < 1 || line > lines.size()) {
+			throw new IndexOutOfBoundsException(String.format(
+					"Line: %d, Lines: %d", line, lines.size()));
+		}
+		return offsets[line - 1];
+	}
+
+	/**
+	 * Returns the line containing the given offset.
+	 *
+	 * @param offset
+	 * 		The offset whose line is returned.
+	 * @return
+	 * 		The line containing {@code offset} or {@code -1} if
+	 * 		{@code offset < 0} or {@code offset >= } {@link #getLength()}.
+	 */
+	public int lineOf(final int offset) {
+		if (offset < 0 || offset >= getLength()) {
+			return -1;
+		}
+		final int idx = Arrays.binarySearch(offsets, offset);
+		// Lines are never empty, so offsets are strictly ascending. A match is
+		// the first character of line `idx + 1`. Otherwise, the insertion
+		// point is the index of the offset of the next line.
+		return idx >= 0 ? idx + 1 : -(idx + 1);
+	}
+}
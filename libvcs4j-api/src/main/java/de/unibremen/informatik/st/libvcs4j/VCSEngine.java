@@ -11,9 +11,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 /**
  * A {@link VCSEngine} is supposed to extract a linear sequence of
@@ -49,8 +53,12 @@ import java.util.Optional;
  * Note 2: {@link #readAllBytes(VCSFile)}, {@link #readLineInfo(VCSFile)}, and
  * {@link #computeDiff(FileChange)} are stateless operations. That is, one may
  * read any file in any state.
+ *
+ * Note 3: An engine may hold resources (open repositories, file handles, and
+ * so on) which are released by {@link #close()}. Hence, use engines in a
+ * try-with-resources statement if possible.
  */
-public interface VCSEngine extends Iterable<RevisionRange> {
+public interface VCSEngine extends Iterable<RevisionRange>, AutoCloseable {
 
 	/**
 	 * Extracts the next revision range, if any. If necessary, the first call
@@ -99,6 +107,64 @@ public interface VCSEngine extends Iterable<RevisionRange> {
 	List<LineInfo> readLineInfo(VCSFile file) throws NullPointerException,
 			IllegalArgumentException, IOException;
 
+	/**
+	 * Reads the line information of the given files and passes the line
+	 * information of each file to {@code consumer} as soon as it is
+	 * available. Implementations may read the line information of several
+	 * files concurrently, but {@code consumer} is always called by the
+	 * calling thread. The default implementation reads the given files one
+	 * after another using {@link #readLineInfo(VCSFile)}.
+	 *
+	 * @param files
+	 * 		The files to read the line information from.
+	 * @param consumer
+	 * 		Receives each file along with its line information.
+	 * @throws NullPointerException
+	 * 		If any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code files} contains {@code null} or a file unknown to this
+	 * 		engine.
+	 * @throws IOException
+	 * 		If an error occurred while reading the line information.
+	 */
+	default void readLineInfo(final Collection<VCSFile> files,
+			final BiConsumer<VCSFile, List<LineInfo>> consumer)
+			throws NullPointerException, IllegalArgumentException,
+			IOException {
+		Validate.noNullElements(files);
+		Validate.notNull(consumer);
+		for (final VCSFile file : files) {
+			consumer.accept(file, readLineInfo(file));
+		}
+	}
+
+	/**
+	 * Reads the line information of the given files (see
+	 * {@link #readLineInfo(Collection, BiConsumer)}).
+	 *
+	 * @param files
+	 * 		The files to read the line information from.
+	 * @return
+	 * 		File -> line information in the order of {@code files}.
+	 * @throws NullPointerException
+	 * 		If {@code files} is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code files} contains {@code null} or a file unknown to this
+	 * 		engine.
+	 * @throws IOException
+	 * 		If an error occurred while reading the line information.
+	 */
+	default Map<VCSFile, List<LineInfo>> readLineInfo(
+			final Collection<VCSFile> files) throws NullPointerException,
+			IllegalArgumentException, IOException {
+		Validate.noNullElements(files);
+		final Map<VCSFile, List<LineInfo>> lineInfo = new LinkedHashMap<>();
+		// Establish the order of `files` (updating a value keeps the order).
+		files.forEach(file -> lineInfo.put(file, null));
+		readLineInfo(files, lineInfo::put);
+		return lineInfo;
+	}
+
 	/**
 	 * Tries to guess the charset of {@code file}.
 	 *
@@ -109,6 +175,24 @@ public interface VCSEngine extends Iterable<RevisionRange> {
 	 */
 	Optional<Charset> guessCharset(VCSFile file) throws IOException;
 
+	/**
+	 * Tries to guess whether {@code file} is a binary file. The default
+	 * implementation passes the contents and the name of {@code file} to
+	 * {@link VCSFile#isBinary(byte[], String)}.
+	 *
+	 * @param file
+	 * 		The file to check.
+	 * @return
+	 * 		{@code true} if {@code file} is a binary file, {@code false}
+	 * 		otherwise.
+	 * @throws IOException
+	 * 		If an error occurred while reading the contents of {@code file}.
+	 */
+	default boolean isBinary(final VCSFile file) throws IOException {
+		return VCSFile.isBinary(file.readAllBytes(),
+				file.toPath().getFileName().toString());
+	}
+
 	/**
 	 * Returns the currently checked out revision.
 	 *
@@ -226,6 +310,18 @@ public interface VCSEngine extends Iterable<RevisionRange> {
 	 */
 	void setModelFactory(VCSModelFactory factory) throws NullPointerException;
 
+	/**
+	 * Releases all resources (open repositories, file handles, and so on)
+	 * held by this engine. Depending on the implementation, an engine may
+	 * reacquire its resources if it is used after being closed. The default
+	 * implementation does nothing.
+	 *
+	 * @throws IOException
+	 * 		If an error occurred while releasing resources.
+	 */
+	@Override
+	default void close() throws IOException {}
+
 	/**
 	 * Returns a {@link FilenameFilter} that is supposed to exclude VCS
 	 * specific files and directories. The default implementation creates a
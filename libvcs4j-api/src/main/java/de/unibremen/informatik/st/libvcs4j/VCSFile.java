@@ -4,7 +4,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayDeque;
@@ -325,9 +324,9 @@ public interface VCSFile extends VCSModelElement {
 		 * 		If an error occurred while reading the file content.
 		 */
 		public Optional<Position> nextLine() throws IOException {
-			final List<String> lines = getFile().readLines();
-			Validate.validateState(lines.size() >= getLine());
-			if (lines.size() == getLine()) {
+			final LineIndex index = getFile().readLineIndex();
+			Validate.validateState(index.getNumLines() >= getLine());
+			if (index.getNumLines() == getLine()) {
 				return Optional.empty();
 			}
 			return getFile().positionOf(getLine() + 1, 1, getTabSize());
@@ -344,8 +343,8 @@ public interface VCSFile extends VCSModelElement {
 		 * 		If an error occurred while reading the file content.
 		 */
 		public Optional<Position> previousLine() throws IOException {
-			final List<String> lines = getFile().readLines();
-			Validate.validateState(lines.size() >= getLine());
+			final LineIndex index = getFile().readLineIndex();
+			Validate.validateState(index.getNumLines() >= getLine());
 			if (getLine() == 1) {
 				return Optional.empty();
 			}
@@ -375,9 +374,9 @@ public interface VCSFile extends VCSModelElement {
 		 * 		If an error occurred while reading the file content.
 		 */
 		public Position endOfLine() throws IOException {
-			final List<String> lines = getFile().readLines();
-			Validate.validateState(lines.size() >= getLine());
-			final int lastColumn = lines.get(getLine() - 1).length();
+			final LineIndex index = getFile().readLineIndex();
+			Validate.validateState(index.getNumLines() >= getLine());
+			final int lastColumn = index.getLineLength(getLine());
 			return getFile().positionOf(getLine(), lastColumn, getTabSize())
 					.orElseThrow(IllegalStateException::new);
 		}
@@ -412,7 +411,10 @@ public interface VCSFile extends VCSModelElement {
 		 * 		If an error occurred while reading the file content.
 		 */
 		public char readChar() throws IOException {
-			return file.readeContent().charAt(offset);
+			final LineIndex index = file.readLineIndex();
+			final int line = index.lineOf(offset);
+			Validate.validateState(line > 0);
+			return index.getLine(line).charAt(offset - index.getOffset(line));
 		}
 
 		@Override
@@ -832,6 +834,24 @@ public interface VCSFile extends VCSModelElement {
 		return lines;
 	}
 
+	/**
+	 * Returns an index of the lines of this file (see
+	 * {@link #readLinesWithEOL()}) which maps lines to offsets and vice versa.
+	 * The index is used by {@link #positionOf(int, int)},
+	 * {@link #positionOf(int, int, int)}, and the navigation methods of
+	 * {@link Position}. Implementations are encouraged to cache the index.
+	 *
+	 * @return
+	 * 		An index of the lines of this file.
+	 * @throws BinaryFileException
+	 * 		If this file is binary (see {@link #isBinary()}).
+	 * @throws IOException
+	 * 		If an error occurred while reading the file content.
+	 */
+	default LineIndex readLineIndex() throws IOException {
+		return new LineIndex(readLinesWithEOL());
+	}
+
 	/**
 	 * Reads the line information of this file.
 	 *
@@ -852,11 +872,8 @@ public interface VCSFile extends VCSModelElement {
 
 	/**
 	 * Tries to guess whether this file is a binary file. The default
-	 * implementation uses {@link Files#probeContentType(Path)} to check
-	 * whether the detected file type (if any) matches one of the predefined
-	 * values. If {@link Files#probeContentType(Path)} is unable to detect the
-	 * file type, the number of ASCII and non-ASCII chars is counted and
-	 * evaluated.
+	 * implementation passes the contents and the name of this file to
+	 * {@link #isBinary(byte[], String)}.
 	 *
 	 * @return
 	 * 		{@code true} if this file is a binary file, {@code false}
@@ -865,110 +882,32 @@ public interface VCSFile extends VCSModelElement {
 	 * 		If an error occurred while reading the file contents.
 	 */
 	default boolean isBinary() throws IOException {
-		final byte[] bytes = readAllBytes();
-		final String fileName = toPath().getFileName().toString();
-
-		////////////// Files#probeContentType(Path)
-		// Some detectors parse the extension of a file to guess its type.
-		// Thus, use the file name as suffix for the temporarily created file.
-		final Path tmp = Files.createTempFile(null, fileName);
-		try {
-			Files.write(tmp, bytes);
-			final String type = Files.probeContentType(tmp);
-			if (type != null) {
-				return !(
-						type.startsWith("text") ||
-						// Bash
-						type.equals("application/x-sh") ||
-						// C-Shell
-						type.equals("application/x-csh") ||
-						// JavaScript
-						type.equals("application/javascript") ||
-						// JSF
-						type.equals("application/xhtml+xml") ||
-						// JSON
-						type.equals("application/json") ||
-						// Latex
-						type.equals("application/x-latex") ||
-						// PHP
-						type.equals("application/x-httpd-php") ||
-						// RTF
-						type.equals("application/rtf") ||
-						// Tex
-						type.equals("application/x-tex") ||
-						// Texinfo
-						type.equals("application/x-texinfo") ||
-						// Typescript
-						type.equals("application/typescript") ||
-						// XML
-						type.equals("application/xml"));
-			}
-		} finally {
-			try { Files.delete(tmp); }
-			catch (final Exception e) { /* ignored */ }
-		}
+		return isBinary(readAllBytes(), toPath().getFileName().toString());
+	}
 
-		////////////// Heuristic
-		int numASCII = 0;
-		int numNonASCII = 0;
-		for (final byte b : bytes) {
-			if (b == 0x09 ||     // \t
-					b == 0x0A || // \n
-					b == 0x0C || // \f
-					b == 0x0D) { // \r
-				numASCII++;
-			} else if (b >= 0x20 && b <= 0x7E) { // regular char
-				numASCII++;
-			} else { // something else
-				numNonASCII++;
-			}
-		}
-		final double nonASCIIRation =
-				(double)numNonASCII /
-						(numASCII + numNonASCII);
-		if (
-				// C
-				fileName.endsWith(".c") ||
-				fileName.endsWith(".h") ||
-				// C++
-				fileName.endsWith(".cc")  ||
-				fileName.endsWith(".hh")  ||
-				fileName.endsWith(".cpp") ||
-				fileName.endsWith(".hpp") ||
-				fileName.endsWith(".cxx") ||
-				fileName.endsWith(".hxx") ||
-				// CSS
-				fileName.endsWith(".css") ||
-				// C#
-				fileName.endsWith(".cs") ||
-				// Groovy
-				fileName.endsWith(".groovy") ||
-				// HTML
-				fileName.endsWith(".html") ||
-				// Java
-				fileName.endsWith(".java") ||
-				// Javascript
-				fileName.endsWith(".js") ||
-				// JSF
-				fileName.endsWith(".xhtml") ||
-				// Kotlin
-				fileName.endsWith(".kt") ||
-				// Markdown
-				fileName.endsWith(".md") ||
-				// PHP
-				fileName.endsWith(".php") ||
-				// Python
-				fileName.endsWith(".py") ||
-				// Scala
-				fileName.endsWith(".scala") ||
-				// Tex
-				fileName.endsWith(".tex") ||
-				// Typescript
-				fileName.endsWith(".ts")) {
-			return nonASCIIRation > 0.3;
-		} else {
-			return nonASCIIRation > 0.95;
-		}
+	/**
+	 * Tries to guess whether the given content is binary. The classification
+	 * is done in memory: Files with a well known binary extension (for
+	 * instance, {@code .png} or {@code .jar}) are binary. Otherwise, a bounded
+	 * prefix of {@code bytes} is scanned for byte order marks (text), NUL
+	 * bytes (binary), and the ratio of control characters and invalid UTF-8
+	 * sequences.
+	 *
+	 * @param bytes
+	 * 		The content of a file.
+	 * @param fileName
+	 * 		The name of the file (without parent directories).
+	 * @return
+	 * 		{@code true} if the given content is binary, {@code false}
+	 * 		otherwise.
+	 * @throws NullPointerException
+	 * 		If any of the given arguments is {@code null}.
+	 */
+	static boolean isBinary(final byte[] bytes, final String fileName)
+			throws NullPointerException {
+		Validate.notNull(bytes);
+		Validate.notNull(fileName);
+		return BinaryDetector.isBinary(bytes, fileName);
 	}
 
 	/**
@@ -1034,33 +973,26 @@ public interface VCSFile extends VCSModelElement {
 		Validate.notNegative(offset);
 		Validate.isPositive(tabSize);
 
-		final List<String> lines = readLinesWithEOL();
-
-		int line = 1;
-		int offsetInLine = offset;
-		while (line <= lines.size()) {
-			final String lineStr = lines.get(line - 1);
-			final int lineLen = lineStr.length();
-			if (lineLen <= offsetInLine) {
-				line++;
-				offsetInLine -= lineLen;
-			} else {
-				String offsetStr = lineStr.substring(0, offsetInLine + 1);
-				if (offsetStr.endsWith("\n") || offsetStr.endsWith("\r")) {
-					return Optional.empty();
-				}
-				offsetStr = offsetStr.substring(0, offsetStr.length() - 1);
-				int column = 1;
-				for (char c : offsetStr.toCharArray()) {
-					column = c == '\t'
-							? ( (column-1)/tabSize + 1 ) * tabSize + 1
-							: column + 1;
-				}
-				return Optional.of(new Position(this, line, column, offset,
-						offsetInLine, tabSize));
-			}
+		final LineIndex index = readLineIndex();
+		final int line = index.lineOf(offset);
+		if (line < 0) {
+			return Optional.empty();
 		}
-		return Optional.empty();
+
+		final String lineStr = index.getLine(line);
+		final int offsetInLine = offset - index.getOffset(line);
+		final char ch = lineStr.charAt(offsetInLine);
+		if (ch == '\n' || ch == '\r') {
+			return Optional.empty();
+		}
+		int column = 1;
+		for (int i = 0; i < offsetInLine; i++) {
+			column = lineStr.charAt(i) == '\t'
+					? ( (column-1)/tabSize + 1 ) * tabSize + 1
+					: column + 1;
+		}
+		return Optional.of(new Position(this, line, column, offset,
+				offsetInLine, tabSize));
 	}
 
 	/**
@@ -1093,13 +1025,12 @@ public interface VCSFile extends VCSModelElement {
 		Validate.isPositive(tabSize);
 
 		// We need the lines with EOL to compute the corresponding offset.
-		final List<String> lines = readLinesWithEOL();
-		if (line > lines.size()) {
+		final LineIndex index = readLineIndex();
+		if (line > index.getNumLines()) {
 			return Optional.empty();
 		}
 
-		final int lineIdx = line - 1;
-		final String lineStr = lines.get(lineIdx);
+		final String lineStr = index.getLine(line);
 		int col = 1;
 		for (int offsetInLine = 0; offsetInLine < lineStr.length();
 				offsetInLine++) {
@@ -1107,11 +1038,7 @@ public interface VCSFile extends VCSModelElement {
 			if (c == '\n' || c == '\r' || col > column) {
 				return Optional.empty();
 			} else if (col == column) {
-				final int offset = offsetInLine +
-						lines.subList(0, lineIdx).stream()
-								.map(String::length)
-								.mapToInt(Integer::intValue)
-								.sum();
+				final int offset = index.getOffset(line) + offsetInLine;
 				return Optional.of(new Position(this, line, column, offset,
 						offsetInLine, tabSize));
 			}
@@ -11,6 +11,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -386,6 +388,84 @@ public interface VCSModelFactory {
 		return revision;
 	}
 
+	/**
+	 * Creates a new {@link Revision} whose files are created on demand. That
+	 * is, the {@link VCSFile}s of {@code files} are created on the first call
+	 * of {@link Revision#getFiles()} only. A file is created with
+	 * {@code fileFactory} or, if it returns {@code null}, with
+	 * {@link #createVCSFile(String, Revision, VCSEngine)}. List arguments are
+	 * flat copied. If {@code files} is {@code null}, an empty list is used as
+	 * fallback. {@code null} values are filtered out.
+	 *
+	 * @param id
+	 * 		The id of the revision to create.
+	 * @param files
+	 * 		The files (relative paths) of the revision to create.
+	 * @param fileFactory
+	 * 		Creates the file of a relative path. May return {@code null}.
+	 * @param engine
+	 * 		The engine of the revision to create.
+	 * @return
+	 * 		The created {@link Revision} instance.
+	 * @throws NullPointerException
+	 * 		If {@code id}, {@code fileFactory}, or {@code engine} is
+	 * 		{@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code id} is empty.
+	 */
+	default Revision createRevision(final String id, final List<String> files,
+			final BiFunction<String, Revision, VCSFile> fileFactory,
+			final VCSEngine engine) throws NullPointerException,
+			IllegalArgumentException {
+		Validate.notEmpty(id);
+		Validate.notNull(fileFactory);
+		Validate.notNull(engine);
+		final List<String> paths = createCopy(files);
+		final int numFiles = paths.size();
+		// Released as soon as the files have been created.
+		final AtomicReference<Function<Revision, List<VCSFile>>> _factory =
+				new AtomicReference<>(rev -> paths.stream()
+						.map(p -> Optional
+								.ofNullable(fileFactory.apply(p, rev))
+								.orElseGet(() -> createVCSFile(p, rev, engine)))
+						.collect(Collectors.toList()));
+		final AtomicReference<List<VCSFile>> _files = new AtomicReference<>();
+		return new Revision() {
+			@Override
+			public String getId() {
+				return id;
+			}
+
+			@Override
+			public List<VCSFile> getFiles() {
+				List<VCSFile> result = _files.get();
+				if (result == null) {
+					synchronized (_files) {
+						result = _files.get();
+						if (result == null) {
+							result = _factory.get().apply(this);
+							_files.set(result);
+							_factory.set(null);
+						}
+					}
+				}
+				return new ArrayList<>(result);
+			}
+
+			@Override
+			public VCSEngine getVCSEngine() {
+				return engine;
+			}
+
+			@Override
+			public String toString() {
+				// Do not create the files just to count them.
+				return String.format("Revision(id=%s, output=%s, files=%d)",
+						getId(), getOutput().toString(), numFiles);
+			}
+		};
+	}
+
 	/**
 	 * Creates a new {@link RevisionRange}. List arguments are flat copied. If
 	 * any of the given lists is {@code null}, an empty list is used as
@@ -485,6 +565,14 @@ public interface VCSModelFactory {
 			private SoftReference<byte[]> contentsCache =
 					new SoftReference<>(null);
 
+			/**
+			 * Caches the line index of this file (see
+			 * {@link #readLineIndex()}). Like {@link #contentsCache}, the
+			 * index is softly referenced.
+			 */
+			private SoftReference<LineIndex> lineIndexCache =
+					new SoftReference<>(null);
+
 			/**
 			 * Caches the charset of this file (see {@link #guessCharset()}).
 			 */
@@ -520,6 +608,16 @@ public interface VCSModelFactory {
 				return bytes;
 			}
 
+			@Override
+			public LineIndex readLineIndex() throws IOException {
+				LineIndex index = lineIndexCache.get();
+				if (index == null) {
+					index = VCSFile.super.readLineIndex();
+					lineIndexCache = new SoftReference<>(index);
+				}
+				return index;
+			}
+
 			@Override
 			public Optional<Charset> guessCharset() throws IOException {
 				if (charsetCache == null) {
@@ -532,7 +630,7 @@ public interface VCSModelFactory {
 			@Override
 			public boolean isBinary() throws IOException {
 				if (binary == null) {
-					binary = new AtomicBoolean(VCSFile.super.isBinary());
+					binary = new AtomicBoolean(engine.isBinary(this));
 				}
 				return binary.get();
 			}
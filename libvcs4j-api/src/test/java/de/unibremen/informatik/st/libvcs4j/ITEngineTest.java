@@ -6,8 +6,12 @@ import org.junit.Test;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -90,4 +94,36 @@ public class ITEngineTest {
 				.hasSize(2)
 				.containsExactly(i2, i3);
 	}
+
+	@Test
+	public void getIssuesForAsync() throws Exception {
+		Commit c1 = spy(Commit.class);
+		when(c1.getMessage()).thenReturn("#4 #1");
+		Commit c2 = spy(Commit.class);
+		when(c2.getMessage()).thenReturn("#1 #5 #2");
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			assertThat(itEngine.getIssuesForAsync(Arrays.asList(c1, null, c2),
+					executor).get())
+					.containsExactly(i4, i1, i2);
+			assertThat(itEngine.getIssuesForAsync((Commit) null, executor)
+					.get())
+					.isEmpty();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void getIssuesForAsyncWithError() throws IOException {
+		Commit commit = spy(Commit.class);
+		when(commit.getMessage()).thenReturn("#1 #6");
+		when(itEngine.getIssueById("6")).thenThrow(new IOException("6"));
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> itEngine.getIssuesForAsync(commit,
+						Runnable::run).get())
+				.withCauseInstanceOf(IOException.class);
+	}
 }
@@ -0,0 +1,68 @@
+package de.unibremen.informatik.st.libvcs4j;
+
+import de.unibremen.informatik.st.libvcs4j.IssueIdExtractor.Reference;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class IssueIdExtractorTest {
+
+	@Test
+	public void hash() {
+		assertThat(IssueIdExtractor.DEFAULT.extract("#1, #2foo#3 bar #4"))
+				.containsExactly("1", "2", "3", "4");
+		assertThat(IssueIdExtractor.DEFAULT.extract("##5 # 6 #x7"))
+				.containsExactly("5");
+		assertThat(IssueIdExtractor.DEFAULT.extract("#1 #1"))
+				.containsExactly("1", "1");
+	}
+
+	@Test
+	public void nullOrEmpty() {
+		assertThat(IssueIdExtractor.DEFAULT.extract(null)).isEmpty();
+		assertThat(IssueIdExtractor.DEFAULT.extract("")).isEmpty();
+		assertThat(IssueIdExtractor.of().extract("#1")).isEmpty();
+	}
+
+	@Test
+	public void jira() {
+		IssueIdExtractor extractor = IssueIdExtractor.of(
+				Reference.jira("PROJ"), Reference.jira("CORE"));
+		assertThat(extractor.extract(
+				"PROJ-12: fix CORE-3 (not XPROJ-4, PROJ-, CORE-5x)"))
+				.containsExactly("PROJ-12", "CORE-3", "CORE-5");
+	}
+
+	@Test
+	public void mixed() {
+		IssueIdExtractor extractor = new IssueIdExtractor(Arrays.asList(
+				Reference.hash(),
+				Reference.mergeRequest(),
+				Reference.url("https://github.com/owner/repo/issues/")));
+		assertThat(extractor.extract("Closes #1 and " +
+				"https://github.com/owner/repo/issues/2, see !3 (hi!4)"))
+				.containsExactly("1", "2", "3");
+	}
+
+	@Test
+	public void overlappingPrefixes() {
+		IssueIdExtractor extractor = IssueIdExtractor.of(
+				new Reference("issue ", "\\d+", false, true),
+				new Reference("sue ", "[a-z]+", false, false));
+		assertThat(extractor.extract("issue 7, sue abc, tissue 8"))
+				.containsExactly("7", "abc");
+	}
+
+	@Test
+	public void invalidReference() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new Reference("", "\\d+", false, false));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new Reference("#", "(", false, false));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> IssueIdExtractor.of((Reference) null));
+	}
+}
@@ -0,0 +1,61 @@
+package de.unibremen.informatik.st.libvcs4j;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class LineIndexTest {
+
+	@Test
+	public void offsets() {
+		LineIndex index = new LineIndex(
+				Arrays.asList("foo\n", "\r\n", "bar\r", "baz"));
+		assertThat(index.getNumLines()).isEqualTo(4);
+		assertThat(index.getLength()).isEqualTo(13);
+		assertThat(index.getOffset(1)).isEqualTo(0);
+		assertThat(index.getOffset(2)).isEqualTo(4);
+		assertThat(index.getOffset(3)).isEqualTo(6);
+		assertThat(index.getOffset(4)).isEqualTo(10);
+	}
+
+	@Test
+	public void lineOf() {
+		LineIndex index = new LineIndex(
+				Arrays.asList("foo\n", "\r\n", "bar\r", "baz"));
+		assertThat(index.lineOf(-1)).isEqualTo(-1);
+		assertThat(index.lineOf(0)).isEqualTo(1);
+		assertThat(index.lineOf(3)).isEqualTo(1);
+		assertThat(index.lineOf(4)).isEqualTo(2);
+		assertThat(index.lineOf(5)).isEqualTo(2);
+		assertThat(index.lineOf(6)).isEqualTo(3);
+		assertThat(index.lineOf(9)).isEqualTo(3);
+		assertThat(index.lineOf(10)).isEqualTo(4);
+		assertThat(index.lineOf(12)).isEqualTo(4);
+		assertThat(index.lineOf(13)).isEqualTo(-1);
+	}
+
+	@Test
+	public void lineLength() {
+		LineIndex index = new LineIndex(
+				Arrays.asList("foo\n", "\r\n", "bar\r", "baz"));
+		assertThat(index.getLineLength(1)).isEqualTo(3);
+		assertThat(index.getLineLength(2)).isEqualTo(0);
+		assertThat(index.getLineLength(3)).isEqualTo(3);
+		assertThat(index.getLineLength(4)).isEqualTo(3);
+		assertThat(index.getLine(3)).isEqualTo("bar\r");
+	}
+
+	@Test
+	public void empty() {
+		LineIndex index = new LineIndex(Collections.emptyList());
+		assertThat(index.getNumLines()).isEqualTo(0);
+		assertThat(index.getLength()).isEqualTo(0);
+		assertThat(index.lineOf(0)).isEqualTo(-1);
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> index.getOffset(1));
+	}
+}
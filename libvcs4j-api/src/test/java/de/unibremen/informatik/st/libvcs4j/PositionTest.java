@@ -30,6 +30,7 @@ public class PositionTest {
 				"first line\n",
 				"second line\n",
 				"third line"));
+		when(oldFile.readLineIndex()).thenCallRealMethod();
 		when(oldFile.positionOf(2, 8, 4)).thenCallRealMethod();
 
 		Revision newRevision = mock(Revision.class);
@@ -46,6 +47,7 @@ public class PositionTest {
 				"first line\n",
 				"new line\n",
 				"second line"));
+		when(newFile.readLineIndex()).thenCallRealMethod();
 		when(newFile.positionOf(anyInt(), anyInt(), anyInt()))
 				.thenCallRealMethod();
 
@@ -83,6 +85,7 @@ public class PositionTest {
 		VCSFile file = mock(VCSFile.class);
 		when(file.readLines()).thenReturn(lines);
 		when(file.readLinesWithEOL()).thenReturn(linesEOL);
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(1, 2, 3)).thenCallRealMethod();
 		when(file.positionOf(2, 1, 3)).thenCallRealMethod();
 
@@ -105,6 +108,7 @@ public class PositionTest {
 		VCSFile file = mock(VCSFile.class);
 		when(file.readLines()).thenReturn(lines);
 		when(file.readLinesWithEOL()).thenReturn(linesEOL);
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(2, 2, 3)).thenCallRealMethod();
 		when(file.positionOf(1, 1, 3)).thenCallRealMethod();
 
@@ -127,6 +131,7 @@ public class PositionTest {
 		VCSFile file = mock(VCSFile.class);
 		when(file.readLines()).thenReturn(lines);
 		when(file.readLinesWithEOL()).thenReturn(lines);
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(1, 7, 8)).thenCallRealMethod();
 		when(file.positionOf(1, 1, 8)).thenCallRealMethod();
 
@@ -148,6 +153,7 @@ public class PositionTest {
 		VCSFile file = mock(VCSFile.class);
 		when(file.readLines()).thenReturn(lines);
 		when(file.readLinesWithEOL()).thenReturn(lines);
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(1, 9, 7)).thenCallRealMethod();
 		when(file.positionOf(1, 21, 7)).thenCallRealMethod();
 
@@ -169,6 +175,7 @@ public class PositionTest {
 		VCSFile file = mock(VCSFile.class);
 		when(file.readLines()).thenReturn(lines);
 		when(file.readLinesWithEOL()).thenReturn(linesEOL);
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(1, 2, 4)).thenCallRealMethod();
 		when(file.positionOf(2, 1, 4)).thenCallRealMethod();
 
@@ -185,6 +192,7 @@ public class PositionTest {
 		VCSFile file = mock(VCSFile.class);
 		when(file.readLines()).thenReturn(lines);
 		when(file.readLinesWithEOL()).thenReturn(linesEOL);
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(2, 2, 4)).thenCallRealMethod();
 		when(file.positionOf(1, 1, 4)).thenCallRealMethod();
 
@@ -208,6 +216,7 @@ public class PositionTest {
 		when(position.getTabSize()).thenReturn(2);
 		when(position.mapTo(file)).thenCallRealMethod();
 
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(position.getLine(), position.getColumn(),
 				position.getTabSize())).thenCallRealMethod();
 
@@ -235,6 +244,7 @@ public class PositionTest {
 		when(position.getTabSize()).thenReturn(2);
 		when(position.mapTo(file)).thenCallRealMethod();
 
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(position.getLine(), position.getColumn(),
 				position.getTabSize())).thenCallRealMethod();
 
@@ -284,6 +294,7 @@ public class PositionTest {
 
 		VCSFile file = mock(VCSFile.class);
 		when(file.readLinesWithEOL()).thenReturn(linesEOL);
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(6, 4)).thenCallRealMethod();
 
 		VCSFile.Position position = file.positionOf(6, 4)
@@ -302,6 +313,7 @@ public class PositionTest {
 		when(file.readAllBytes()).thenReturn(content.getBytes());
 		when(file.readeContent()).thenCallRealMethod();
 		when(file.readLinesWithEOL()).thenCallRealMethod();
+		when(file.readLineIndex()).thenCallRealMethod();
 		when(file.positionOf(2, 4)).thenCallRealMethod();
 
 		VCSFile.Position position = file.positionOf(2, 4)
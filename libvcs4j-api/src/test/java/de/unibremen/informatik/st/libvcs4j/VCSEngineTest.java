@@ -11,9 +11,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
@@ -102,4 +108,31 @@ public class VCSEngineTest {
 
 		assertThat(engine.listFilesInOutput()).hasSize(7);
 	}
+
+	@Test
+	public void testReadLineInfoOfFiles() throws IOException {
+		VCSEngine engine = spy(VCSEngine.class);
+		VCSFile file1 = mock(VCSFile.class);
+		VCSFile file2 = mock(VCSFile.class);
+		List<LineInfo> lineInfo1 = Collections.singletonList(
+				mock(LineInfo.class));
+		List<LineInfo> lineInfo2 = Collections.emptyList();
+		doReturn(lineInfo1).when(engine).readLineInfo(file1);
+		doReturn(lineInfo2).when(engine).readLineInfo(file2);
+
+		Map<VCSFile, List<LineInfo>> lineInfo =
+				engine.readLineInfo(Arrays.asList(file2, file1));
+		assertThat(lineInfo.keySet()).containsExactly(file2, file1);
+		assertThat(lineInfo.get(file1)).isSameAs(lineInfo1);
+		assertThat(lineInfo.get(file2)).isSameAs(lineInfo2);
+	}
+
+	@Test
+	public void testReadLineInfoOfNullFile() {
+		VCSEngine engine = spy(VCSEngine.class);
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> engine.readLineInfo(
+						Arrays.asList(mock(VCSFile.class), null)));
+	}
 }
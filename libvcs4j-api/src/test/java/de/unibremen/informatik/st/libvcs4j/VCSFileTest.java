@@ -134,6 +134,39 @@ public class VCSFileTest {
 		assertThat(file.isBinary()).isFalse();
 	}
 
+	@Test
+	public void isBinaryByExtension() {
+		assertThat(VCSFile.isBinary(
+				"Some arbitrary text".getBytes(StandardCharsets.UTF_8),
+				"image.PNG")).isTrue();
+	}
+
+	@Test
+	public void isBinaryNulByte() {
+		assertThat(VCSFile.isBinary(
+				new byte[] { 'a', 'b', 0x00, 'c' }, "data")).isTrue();
+	}
+
+	@Test
+	public void isBinaryUTF8() {
+		assertThat(VCSFile.isBinary(
+				"\u00e4\u00f6\u00fc \u20ac".getBytes(StandardCharsets.UTF_8),
+				"Umlauts.java")).isFalse();
+	}
+
+	@Test
+	public void isBinaryUTF16WithBOM() {
+		assertThat(VCSFile.isBinary(
+				"Some arbitrary text".getBytes(StandardCharsets.UTF_16),
+				"Mock.java")).isFalse();
+	}
+
+	@Test
+	public void isBinaryControlChars() {
+		assertThat(VCSFile.isBinary(
+				new byte[] { 0x01, 0x02, 0x03, 'a' }, "Mock.java")).isTrue();
+	}
+
 
 
 	@Test
@@ -8,9 +8,9 @@ import spoon.reflect.reference.CtExecutableReference;
 import spoon.reflect.reference.CtFieldReference;
 import spoon.reflect.reference.CtTypeReference;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -18,7 +18,11 @@ import java.util.function.Function;
  * {@link Scanner}) that have to, for example, resolve a large number of
  * references (such as {@link CtTypeReference}, {@link CtFieldReference}, and
  * {@link CtExecutableReference}). A single instance of this class may be
- * shared between several scanners.
+ * shared between several scanners, even if they run concurrently (see
+ * {@link de.unibremen.informatik.st.libvcs4j.spoon.codesmell.DetectorRunner}).
+ * Lookups do not lock. If several threads resolve the same reference at the
+ * same time, the reference may be resolved more than once, but all threads
+ * receive the value that has been stored first.
  */
 public class Cache {
 
@@ -26,19 +30,22 @@ public class Cache {
 	 * Qualified name ({@link CtTypeReference#getQualifiedName()}) ->
 	 * {@link CtType}.
 	 */
-	private final Map<String, CtType> types = new HashMap<>();
+	private final Map<String, Optional<CtType>> types =
+			new ConcurrentHashMap<>();
 
 	/**
 	 * Qualified name ({@link CtFieldReference#getQualifiedName()}) ->
 	 * {@link CtField}.
 	 */
-	private final Map<String, CtField> fields = new HashMap<>();
+	private final Map<String, Optional<CtField>> fields =
+			new ConcurrentHashMap<>();
 
 	/**
 	 * Signature ({@link CtExecutableReference#getSignature()}) ->
 	 * {@link CtExecutable}.
 	 */
-	private final Map<String, CtExecutable> executables = new HashMap<>();
+	private final Map<String, Optional<CtExecutable>> executables =
+			new ConcurrentHashMap<>();
 
 	/**
 	 * Returns the type referenced by {@code reference}. Returns an empty
@@ -86,20 +93,24 @@ public class Cache {
 				CtExecutableReference::getDeclaration);
 	}
 
-	private <E, K, V> Optional<V> lookup(final E element, final Map<K, V> map,
-			final Function<E, K> toKey, final Function<E, V> resolve) {
+	private <E, K, V> Optional<V> lookup(final E element,
+			final Map<K, Optional<V>> map, final Function<E, K> toKey,
+			final Function<E, V> resolve) {
 		return Optional.ofNullable(element)
 				.map(toKey)
-				.map(key -> {
-					synchronized (map) {
-						V value = map.get(key);
-						// allow null mappings
-						if (value == null && !map.containsKey(key)) {
-							value = resolve.apply(element);
-							map.put(key, value);
+				.flatMap(key -> {
+					Optional<V> value = map.get(key);
+					if (value == null) {
+						// Resolve without holding a lock as resolving may
+						// (indirectly) lookup other references. Unresolvable
+						// references are stored as empty Optional.
+						value = Optional.ofNullable(resolve.apply(element));
+						final Optional<V> stored = map.putIfAbsent(key, value);
+						if (stored != null) {
+							value = stored;
 						}
-						return value;
 					}
+					return value;
 				});
 	}
 }
@@ -0,0 +1,135 @@
+package de.unibremen.informatik.st.libvcs4j.spoon;
+
+import lombok.NonNull;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stores which types are declared by a source file and which source files
+ * reference a type (reverse dependencies). Used by
+ * {@link EnvironmentBuilder} to find the files that have to be recompiled
+ * if a set of files changes without scanning the whole model. Types are
+ * identified by their qualified name. Files are expected to be canonical.
+ */
+class DependencyIndex {
+
+	/**
+	 * File -> qualified names of the types declared in file.
+	 */
+	private final Map<Path, Set<String>> typesOfFile = new HashMap<>();
+
+	/**
+	 * File -> qualified names of the types referenced in file.
+	 */
+	private final Map<Path, Set<String>> referencesOfFile = new HashMap<>();
+
+	/**
+	 * Qualified name of a type -> files referencing the type.
+	 */
+	private final Map<String, Set<Path>> dependentsOfType = new HashMap<>();
+
+	/**
+	 * Stores the types declared and referenced by {@code file}. Replaces the
+	 * previously stored types of {@code file}.
+	 *
+	 * @param file
+	 * 		The file to store.
+	 * @param types
+	 * 		The qualified names of the types declared in {@code file}.
+	 * @param references
+	 * 		The qualified names of the types referenced in {@code file}.
+	 * @throws NullPointerException
+	 * 		If any of the given arguments is {@code null}.
+	 */
+	void put(@NonNull final Path file, @NonNull final Set<String> types,
+			@NonNull final Set<String> references) {
+		remove(file);
+		typesOfFile.put(file, types);
+		referencesOfFile.put(file, references);
+		references.forEach(ref -> dependentsOfType
+				.computeIfAbsent(ref, __ -> new HashSet<>())
+				.add(file));
+	}
+
+	/**
+	 * Removes {@code file} from this index.
+	 *
+	 * @param file
+	 * 		The file to remove.
+	 */
+	void remove(final Path file) {
+		typesOfFile.remove(file);
+		final Set<String> references = referencesOfFile.remove(file);
+		if (references != null) {
+			references.forEach(ref -> {
+				final Set<Path> dependents = dependentsOfType.get(ref);
+				if (dependents != null) {
+					dependents.remove(file);
+					if (dependents.isEmpty()) {
+						dependentsOfType.remove(ref);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Returns all files referencing a type declared in one of the given
+	 * files. The returned set does not contain any file of {@code files}
+	 * itself.
+	 *
+	 * @param files
+	 * 		The files whose dependents are returned.
+	 * @return
+	 * 		All files referencing a type declared in {@code files}.
+	 * @throws NullPointerException
+	 * 		If {@code files} is {@code null}.
+	 */
+	Set<Path> getDependents(@NonNull final Collection<Path> files) {
+		final Set<Path> dependents = new HashSet<>();
+		files.forEach(file -> typesOfFile
+				.getOrDefault(file, Collections.emptySet())
+				.forEach(type -> dependents.addAll(dependentsOfType
+						.getOrDefault(type, Collections.emptySet()))));
+		dependents.removeAll(files);
+		return dependents;
+	}
+
+	/**
+	 * Returns the qualified names of the types declared in {@code file}.
+	 *
+	 * @param file
+	 * 		The file whose types are returned.
+	 * @return
+	 * 		The qualified names of the types declared in {@code file}.
+	 */
+	Set<String> getTypes(final Path file) {
+		return Collections.unmodifiableSet(
+				typesOfFile.getOrDefault(file, Collections.emptySet()));
+	}
+
+	/**
+	 * Returns the number of stored files.
+	 *
+	 * @return
+	 * 		The number of stored files.
+	 */
+	int size() {
+		return typesOfFile.size();
+	}
+
+	/**
+	 * Removes all files.
+	 */
+	void clear() {
+		typesOfFile.clear();
+		referencesOfFile.clear();
+		dependentsOfType.clear();
+	}
+}
@@ -3,7 +3,11 @@ package de.unibremen.informatik.st.libvcs4j.spoon;
 import de.unibremen.informatik.st.libvcs4j.Revision;
 import de.unibremen.informatik.st.libvcs4j.RevisionRange;
 import de.unibremen.informatik.st.libvcs4j.VCSFile;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
 import lombok.Value;
 import spoon.reflect.CtModel;
 import spoon.reflect.cu.CompilationUnit;
@@ -19,11 +23,11 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +42,34 @@ public class Environment {
 	@NonNull
 	private final RevisionRange revisionRange;
 
+	/**
+	 * Canonical path -> {@link VCSFile} of all files of the revision. Is
+	 * created on first access (see {@link #findFile(File)}).
+	 */
+	@Getter(value = AccessLevel.PRIVATE, lazy = true)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final Map<Path, VCSFile> fileIndex = createFileIndex();
+
+	/**
+	 * Canonical path -> {@link CompilationUnit} of all compilation units of
+	 * the model. Is created on first access (see
+	 * {@link #findReferencedFiles(VCSFile)}).
+	 */
+	@Getter(value = AccessLevel.PRIVATE, lazy = true)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final Map<Path, CompilationUnit> unitIndex = createUnitIndex();
+
+	/**
+	 * Caches the canonical version of the paths of compilation units (see
+	 * {@link #toCanonicalPath(File)}).
+	 */
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	@Getter(AccessLevel.NONE)
+	private final Map<Path, Path> canonicalPaths = new ConcurrentHashMap<>();
+
 	/**
 	 * Shortcut for {@code getRevisionRange().getRevision()}.
 	 *
@@ -48,6 +80,28 @@ public class Environment {
 		return revisionRange.getRevision();
 	}
 
+	/**
+	 * Returns the {@link VCSFile} of the revision (see {@link #getRevision()})
+	 * that is located at {@code file}. Both, {@code file} and the files of the
+	 * revision, are compared by their canonical path. The canonical paths of
+	 * the revision's files are computed only once.
+	 *
+	 * @param file
+	 * 		The file to map.
+	 * @return
+	 * 		The {@link VCSFile} located at {@code file}. An empty
+	 * 		{@link Optional} if {@code file} is {@code null} or if the
+	 * 		revision does not contain such a file.
+	 * @throws UncheckedIOException
+	 * 		If an I/O error occurs while canonicalizing a path.
+	 */
+	public Optional<VCSFile> findFile(final File file)
+			throws UncheckedIOException {
+		return Optional.ofNullable(file)
+				.map(this::toCanonicalPath)
+				.map(getFileIndex()::get);
+	}
+
 	/**
 	 * Returns all files referenced by {@code file}.
 	 *
@@ -57,44 +111,12 @@ public class Environment {
 	 * 		The files referenced by {@code file}.
 	 */
 	public List<VCSFile> findReferencedFiles(@NonNull final VCSFile file) {
-		final CompilationUnitFactory factory = ctModel.getRootPackage()
-				.getFactory().CompilationUnit();
-		final Map<String, CompilationUnit> compilationUnits = factory.getMap();
-
-		// Make compilation unit paths canonical.
-		final Map<Path, CompilationUnit> cPathToUnit = new HashMap<>();
-		try {
-			for (String path : compilationUnits.keySet()) {
-				final CompilationUnit unit = compilationUnits.get(path);
-				final Path cPath = new File(path).getCanonicalFile().toPath();
-				cPathToUnit.put(cPath, unit);
-			}
-		} catch (final IOException e) {
-			throw new UncheckedIOException(e);
-		}
-		// Reverse map of `cPathToUnit`.
-		final Map<CompilationUnit, Path> unitToCPath = new IdentityHashMap<>();
-		cPathToUnit.forEach((p, u) -> unitToCPath.put(u, p));
-
-		// Make VCS file paths canonical.
-		final Map<VCSFile, Path> fileToCPath = new IdentityHashMap<>();
-		try {
-			final Revision revision = revisionRange.getRevision();
-			for (final VCSFile vFile : revision.getFiles()) {
-				final Path cPath = vFile.toFile().getCanonicalFile().toPath();
-				fileToCPath.put(vFile, cPath);
-			}
-		} catch (final IOException e) {
-			throw new UncheckedIOException(e);
-		}
-		// Reverse map of `fileToCPath`.
-		final Map<Path, VCSFile> cPathToFile = new HashMap<>();
-		fileToCPath.forEach((f, p) -> cPathToFile.put(p, f));
+		// Find the compilation unit of `file`.
+		final Optional<CompilationUnit> unitOfFile = Optional.ofNullable(
+				getUnitIndex().get(toCanonicalPath(file.toFile())));
 
 		// Find files referenced by `file`.
-		final List<CompilationUnit> referencedUnits =
-				Optional.ofNullable(fileToCPath.get(file))
-				.map(cPathToUnit::get)
+		final List<CompilationUnit> referencedUnits = unitOfFile
 				.map(cu -> cu.getDeclaredTypes().stream()
 						.map(CtElement::getReferencedTypes)
 						.flatMap(Collection::stream)
@@ -106,10 +128,76 @@ public class Environment {
 				.orElseGet(ArrayList::new);
 		final List<VCSFile> referencedFiles = new ArrayList<>();
 		for (final CompilationUnit unit : referencedUnits) {
-			Optional.ofNullable(unitToCPath.get(unit))
-					.map(cPathToFile::get)
+			Optional.ofNullable(unit)
+					.map(CompilationUnit::getFile)
+					.flatMap(this::findFile)
 					.ifPresent(referencedFiles::add);
 		}
 		return referencedFiles;
 	}
+
+	/**
+	 * Maps the canonical path of all files of the revision (see
+	 * {@link #getRevision()}) to the corresponding {@link VCSFile}. If
+	 * several files have the same canonical path, the first one is used.
+	 *
+	 * @return
+	 * 		The created index.
+	 * @throws UncheckedIOException
+	 * 		If an I/O error occurs while canonicalizing a path.
+	 */
+	private Map<Path, VCSFile> createFileIndex() throws UncheckedIOException {
+		final Map<Path, VCSFile> index = new HashMap<>();
+		try {
+			for (final VCSFile vFile : getRevision().getFiles()) {
+				final Path cPath = vFile.toFile().getCanonicalFile().toPath();
+				index.putIfAbsent(cPath, vFile);
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return index;
+	}
+
+	/**
+	 * Maps the canonical path of all compilation units of the model (see
+	 * {@link #getCtModel()}) to the corresponding {@link CompilationUnit}. If
+	 * several units have the same canonical path, the first one is used.
+	 *
+	 * @return
+	 * 		The created index.
+	 * @throws UncheckedIOException
+	 * 		If an I/O error occurs while canonicalizing a path.
+	 */
+	private Map<Path, CompilationUnit> createUnitIndex()
+			throws UncheckedIOException {
+		final CompilationUnitFactory factory = ctModel.getRootPackage()
+				.getFactory().CompilationUnit();
+		final Map<Path, CompilationUnit> index = new HashMap<>();
+		factory.getMap().forEach((path, unit) -> index.putIfAbsent(
+				toCanonicalPath(new File(path)), unit));
+		return index;
+	}
+
+	/**
+	 * Canonicalizes {@code file} using {@link File#getCanonicalFile()}. The
+	 * canonical version of a file is computed only once (see
+	 * {@link #canonicalPaths}).
+	 *
+	 * @param file
+	 * 		The file to canonicalize.
+	 * @return
+	 * 		The canonicalized version of {@code file} as {@link Path}.
+	 * @throws UncheckedIOException
+	 * 		If an I/O error occurs.
+	 */
+	private Path toCanonicalPath(final File file) throws UncheckedIOException {
+		return canonicalPaths.computeIfAbsent(file.toPath(), p -> {
+			try {
+				return p.toFile().getCanonicalFile().toPath();
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
 }
@@ -24,15 +24,23 @@ import spoon.reflect.factory.CompilationUnitFactory;
 import spoon.reflect.factory.Factory;
 import spoon.reflect.reference.CtTypeReference;
 import spoon.reflect.visitor.filter.TypeFilter;
+import spoon.support.SerializationModelStreamer;
 import spoon.support.compiler.FileSystemFile;
 import spoon.support.compiler.FilteringFolder;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -40,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.System.currentTimeMillis;
@@ -61,6 +70,26 @@ public class EnvironmentBuilder {
 	private static final Logger log =
 			LoggerFactory.getLogger(EnvironmentBuilder.class);
 
+	/**
+	 * The version of the snapshot format (see {@link #saveSnapshot(Path)}).
+	 */
+	private static final int SNAPSHOT_VERSION = 1;
+
+	/**
+	 * The file of a snapshot storing the serialized model.
+	 */
+	private static final String SNAPSHOT_MODEL = "model";
+
+	/**
+	 * The directory of a snapshot storing the compiled .class files.
+	 */
+	private static final String SNAPSHOT_BINARIES = "classes";
+
+	/**
+	 * The file of a snapshot storing the remaining state of this builder.
+	 */
+	private static final String SNAPSHOT_STATE = "state";
+
 	/**
 	 * Indicates whether {@link #update(RevisionRange)} updates the
 	 * {@link CtModel} of {@link #environment} incrementally or if a
@@ -99,6 +128,19 @@ public class EnvironmentBuilder {
 	 */
 	private final Set<Path> notCompiled = new HashSet<>();
 
+	/**
+	 * The types declared and referenced by the source files of the
+	 * {@link CtModel} of {@link #environment}. Updated with each call of
+	 * {@link #update(RevisionRange)}.
+	 */
+	private final DependencyIndex dependencyIndex = new DependencyIndex();
+
+	/**
+	 * Caches the results of {@link #toCanonicalPath(Path)} to avoid file
+	 * system calls. Accessed by parallel streams.
+	 */
+	private final Map<Path, Path> canonicalPaths = new ConcurrentHashMap<>();
+
 	/**
 	 * Returns the {@link Environment} of the last call of
 	 * {@link #update(RevisionRange)}.
@@ -132,6 +174,8 @@ public class EnvironmentBuilder {
 		}
 
 		final Launcher launcher;
+		// The files to index after building the model. All files if null.
+		final Set<Path> toIndex;
 		if (environment != null && incremental) {
 			final CtPackage rootPackage =
 					environment.getCtModel().getRootPackage();
@@ -164,17 +208,19 @@ public class EnvironmentBuilder {
 			removeChangedTypes(extractOldFiles(
 					range.getRelocatedFiles()));
 
-			// delete removed files from the set, because they do not exist
-			// anymore
-			extractOldFiles(range.getRemovedFiles()).stream()
-					.map(this::toCanonicalPath)
-					.forEach(notCompiled::remove);
+			// delete removed files from the set and the index, because they
+			// do not exist anymore
+			extractOldFiles(range.getRemovedFiles()).forEach(file -> {
+				notCompiled.remove(file);
+				dependencyIndex.remove(file);
+			});
 
-			// delete relocated files from the set, because their path is
-			// outdated
-			extractOldFiles(range.getRelocatedFiles()).stream()
-					.map(this::toCanonicalPath)
-					.forEach(notCompiled::remove);
+			// delete relocated files from the set and the index, because
+			// their path is outdated
+			extractOldFiles(range.getRelocatedFiles()).forEach(file -> {
+				notCompiled.remove(file);
+				dependencyIndex.remove(file);
+			});
 
 			// remove the changed classes from spoon model
 			removeChangedTypes(notCompiled);
@@ -187,7 +233,11 @@ public class EnvironmentBuilder {
 					!notCompiled.contains(toCanonicalPath(path)));
 			launcher.getModelBuilder().compile(InputType.FILES);
 			environment.getCtModel().setBuildModelIsFinished(false);
+			toIndex = new HashSet<>(notCompiled);
 		} else {
+			canonicalPaths.clear();
+			dependencyIndex.clear();
+			toIndex = null;
 			launcher = new Launcher();
 			// Add the checked out directory here, so we do not have to add
 			// each single file.
@@ -201,17 +251,153 @@ public class EnvironmentBuilder {
 		try {
 			launcher.getModelBuilder().compile(InputType.FILES);
 			environment = new Environment(launcher.buildModel(), range);
+			updateDependencyIndex(toIndex);
 			log.info("Model built in {} milliseconds",
 					currentTimeMillis() - current);
 			return environment;
 		} catch (final Exception e) {
 			environment = null;
 			notCompiled.clear();
+			dependencyIndex.clear();
 			log.info("Unable to build model", e);
 			throw new BuildException(e);
 		}
 	}
 
+	/**
+	 * Saves the state of this builder to a snapshot in {@code directory}.
+	 * The snapshot consists of the model of the current {@link Environment},
+	 * the compiled .class files, and the files that were not compiled. It is
+	 * identified by the id of the revision of the current
+	 * {@link Environment} and replaces an existing snapshot of this
+	 * revision. Use {@link #loadSnapshot(Path, RevisionRange)} to resume
+	 * building (or to share) the model of a revision without building it
+	 * from scratch.
+	 *
+	 * @param directory
+	 * 		The directory to store the snapshot in. Is created if it does not
+	 * 		exist.
+	 * @return
+	 * 		The path of the snapshot.
+	 * @throws NullPointerException
+	 * 		If {@code directory} is {@code null}.
+	 * @throws IllegalStateException
+	 * 		If there is no {@link Environment} (see {@link #getEnvironment()}).
+	 * @throws IOException
+	 * 		If an error occurred while writing the snapshot.
+	 */
+	public Path saveSnapshot(@NonNull final Path directory)
+			throws IllegalStateException, IOException {
+		Validate.validateState(environment != null,
+				"There is no model to save");
+		final Revision revision = environment.getRevision();
+		final String id = Validate.notNull(revision.getId());
+		final Path snapshot = toSnapshotPath(directory, id);
+		Files.createDirectories(directory);
+		// Write to a temporary directory first such that there is no
+		// incomplete snapshot in case of an error.
+		final Path tmp = Files.createTempDirectory(directory, ".snapshot");
+		try {
+			try (OutputStream out = Files.newOutputStream(
+					tmp.resolve(SNAPSHOT_MODEL))) {
+				new SerializationModelStreamer().save(environment
+						.getCtModel().getRootPackage().getFactory(), out);
+			}
+			FileUtils.copyDirectory(tmpDir.toFile(),
+					tmp.resolve(SNAPSHOT_BINARIES).toFile());
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(
+							tmp.resolve(SNAPSHOT_STATE))))) {
+				out.writeInt(SNAPSHOT_VERSION);
+				out.writeUTF(id);
+				out.writeUTF(revision.getOutput().toString());
+				out.writeInt(notCompiled.size());
+				for (final Path path : notCompiled) {
+					out.writeUTF(path.toString());
+				}
+			}
+			FileUtils.deleteDirectory(snapshot.toFile());
+			Files.move(tmp, snapshot, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			FileUtils.deleteQuietly(tmp.toFile());
+		}
+		log.info("Saved snapshot of revision {} to '{}'", id, snapshot);
+		return snapshot;
+	}
+
+	/**
+	 * Restores the state of this builder from the snapshot of the revision
+	 * of {@code range} (see {@link #saveSnapshot(Path)}). Subsequent calls of
+	 * {@link #update(RevisionRange)} incrementally update the restored model
+	 * (if {@link #incremental} is enabled). Note that the model of a
+	 * snapshot references the files of the checked out revision. Thus, a
+	 * snapshot is loaded only if the revision of {@code range} has been
+	 * checked out at the same location (see {@link Revision#getOutput()}) as
+	 * the revision of the snapshot.
+	 *
+	 * @param directory
+	 * 		The directory storing the snapshot.
+	 * @param range
+	 * 		The currently checked out range.
+	 * @return
+	 * 		The restored {@link Environment} or an empty {@link Optional} if
+	 * 		there is no suitable snapshot.
+	 * @throws NullPointerException
+	 * 		If any of the given arguments is {@code null}.
+	 * @throws IOException
+	 * 		If an error occurred while reading the snapshot.
+	 */
+	public Optional<Environment> loadSnapshot(@NonNull final Path directory,
+			@NonNull final RevisionRange range) throws IOException {
+		final Revision revision = range.getRevision();
+		final String id = Validate.notNull(revision.getId());
+		final Path snapshot = toSnapshotPath(directory, id);
+		final Path state = snapshot.resolve(SNAPSHOT_STATE);
+		if (!Files.isRegularFile(state)) {
+			return Optional.empty();
+		}
+
+		final Set<Path> files = new HashSet<>();
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(state)))) {
+			if (in.readInt() != SNAPSHOT_VERSION || !in.readUTF().equals(id)) {
+				log.warn("Ignoring incompatible snapshot '{}'", snapshot);
+				return Optional.empty();
+			}
+			final String output = in.readUTF();
+			if (!output.equals(revision.getOutput().toString())) {
+				log.warn("Ignoring snapshot '{}' of '{}'", snapshot, output);
+				return Optional.empty();
+			}
+			final int numFiles = in.readInt();
+			for (int i = 0; i < numFiles; i++) {
+				files.add(Paths.get(in.readUTF()));
+			}
+		}
+
+		final Factory factory;
+		try (InputStream in = Files.newInputStream(
+				snapshot.resolve(SNAPSHOT_MODEL))) {
+			factory = new SerializationModelStreamer().load(in);
+		}
+		if (tmpDir == null) {
+			tmpDir = createTmpDir();
+		} else {
+			FileUtils.cleanDirectory(tmpDir.toFile());
+		}
+		FileUtils.copyDirectory(snapshot.resolve(SNAPSHOT_BINARIES).toFile(),
+				tmpDir.toFile());
+
+		environment = new Environment(factory.getModel(), range);
+		notCompiled.clear();
+		notCompiled.addAll(files);
+		canonicalPaths.clear();
+		dependencyIndex.clear();
+		updateDependencyIndex(null);
+		log.info("Loaded snapshot of revision {} from '{}'", id, snapshot);
+		return Optional.of(environment);
+	}
+
 	////////////////////////////// Util Methods ///////////////////////////////
 
 	/**
@@ -251,9 +437,27 @@ public class EnvironmentBuilder {
 		}
 	}
 
+	/**
+	 * Returns the path of the snapshot of revision {@code id} in
+	 * {@code directory}. Replaces characters that may not be used in file
+	 * names.
+	 *
+	 * @param directory
+	 * 		The directory storing snapshots.
+	 * @param id
+	 * 		The id of the revision.
+	 * @return
+	 * 		The path of the snapshot.
+	 */
+	private Path toSnapshotPath(final Path directory, final String id) {
+		return directory.resolve(id.replaceAll("[^A-Za-z0-9._-]", "_"));
+	}
+
 	/**
 	 * Canonicalizes {@code path} using {@link File#getCanonicalFile()}. Wraps
 	 * potential {@link IOException}s with an {@link UncheckedIOException}.
+	 * The canonical version of a path is computed only once (see
+	 * {@link #canonicalPaths}).
 	 *
 	 * @param path
 	 * 		The path to canonicalize.
@@ -261,11 +465,13 @@ public class EnvironmentBuilder {
 	 * 		The canonicalized version of {@code path}.
 	 */
 	private Path toCanonicalPath(final Path path) {
-		try {
-			return path.toFile().getCanonicalFile().toPath();
-		} catch (final IOException e) {
-			throw new UncheckedIOException(e);
-		}
+		return canonicalPaths.computeIfAbsent(path, p -> {
+			try {
+				return p.toFile().getCanonicalFile().toPath();
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
 	}
 
 	/**
@@ -304,9 +510,9 @@ public class EnvironmentBuilder {
 	private void removeChangedTypes(final Collection<Path> paths) {
 		Validate.validateState(environment != null);
 
-		final List<Path> files = paths.stream()
+		final Set<Path> files = paths.stream()
 				.map(this::toCanonicalPath)
-				.collect(Collectors.toList());
+				.collect(Collectors.toSet());
 		final CompilationUnitFactory factory = environment
 				.getCtModel()
 				.getRootPackage()
@@ -411,7 +617,7 @@ public class EnvironmentBuilder {
 	 * Returns all source files (as canonical paths) that have a reference to a
 	 * file in {@code pFiles}. Ignores recursive references. That is, the
 	 * returned set of paths does not contain any file of {@code pFiles}
-	 * itself.
+	 * itself. The references are looked up in {@link #dependencyIndex}.
 	 *
 	 * @param
 	 * 		pFiles The list of files (denoted as paths) to process.
@@ -422,35 +628,63 @@ public class EnvironmentBuilder {
 	private Set<Path> findReferencingFiles(final List<Path> pFiles) {
 		Validate.validateState(environment != null);
 
+		return dependencyIndex.getDependents(pFiles.stream()
+				.map(this::toCanonicalPath)
+				.collect(Collectors.toSet()));
+	}
+
+	/**
+	 * Updates {@link #dependencyIndex} with the compilation units of the
+	 * given files. Files without compilation unit are removed from the index.
+	 *
+	 * @param files
+	 * 		The (canonical) files to index. Pass {@code null} to index all
+	 * 		compilation units.
+	 */
+	private void updateDependencyIndex(final Set<Path> files) {
+		Validate.validateState(environment != null);
+
 		final Map<String, CompilationUnit> unitMap = environment
 				.getCtModel()
 				.getRootPackage()
 				.getFactory()
 				.CompilationUnit()
 				.getMap();
-		final List<Path> files = pFiles.stream()
-				.map(this::toCanonicalPath)
-				.collect(Collectors.toList());
-		final List<CtTypeReference> typeReferencesOfFiles =
-				unitMap.keySet().parallelStream()
-						.filter(path -> files.contains(toCanonicalPath(path)))
-						.map(unitMap::get)
-						.map(CompilationUnit::getDeclaredTypes)
-						.flatMap(Collection::stream)
-						.map(CtType::getReference)
-						.collect(Collectors.toList());
-
-		final Set<Path> referencingFiles = new HashSet<>();
-		environment.getCtModel().getAllTypes().forEach(type ->
-				type.getReferencedTypes().parallelStream()
-						.filter(typeReferencesOfFiles::contains)
-						.findAny()
-						.map(CtElement::getPosition)
-						.filter(SourcePosition::isValidPosition)
-						.map(SourcePosition::getFile)
-						.map(this::toCanonicalPath)
-						.ifPresent(referencingFiles::add));
-		return referencingFiles;
+		final Set<Path> unindexed = files == null
+				? new HashSet<>()
+				: new HashSet<>(files);
+		unitMap.forEach((p, unit) -> {
+			final Path file = toCanonicalPath(p);
+			if (files == null || files.contains(file)) {
+				final Set<String> types = new HashSet<>();
+				final Set<String> references = new HashSet<>();
+				unit.getDeclaredTypes().forEach(type -> {
+					collectTypeNames(type, types);
+					type.getReferencedTypes().stream()
+							.map(CtTypeReference::getQualifiedName)
+							.forEach(references::add);
+				});
+				dependencyIndex.put(file, types, references);
+				unindexed.remove(file);
+			}
+		});
+		unindexed.forEach(dependencyIndex::remove);
+	}
+
+	/**
+	 * Adds the qualified name of {@code type} and of all its nested types to
+	 * {@code names}.
+	 *
+	 * @param type
+	 * 		The type to process.
+	 * @param names
+	 * 		The set to add the names to.
+	 */
+	private void collectTypeNames(final CtType<?> type,
+			final Set<String> names) {
+		names.add(type.getQualifiedName());
+		type.getNestedTypes().forEach(nested ->
+				collectTypeNames(nested, names));
 	}
 
 	/**
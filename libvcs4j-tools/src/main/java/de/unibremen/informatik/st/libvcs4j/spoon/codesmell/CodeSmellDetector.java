@@ -17,8 +17,8 @@ import spoon.reflect.declaration.CtPackage;
 import spoon.reflect.declaration.CtType;
 import spoon.reflect.declaration.CtTypeInformation;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -60,6 +60,16 @@ public abstract class CodeSmellDetector extends Scanner {
 		this.environment = environment;
 	}
 
+	/**
+	 * Returns the environment of this detector.
+	 *
+	 * @return
+	 * 		The environment of this detector.
+	 */
+	public Environment getEnvironment() {
+		return environment;
+	}
+
 	/**
 	 * Returns the definition of this detector.
 	 *
@@ -285,7 +295,7 @@ public abstract class CodeSmellDetector extends Scanner {
 
 	/**
 	 * Maps a Spoon position ({@link SourcePosition}) to the {@link VCSFile}
-	 * that contains this position.
+	 * that contains this position (see {@link Environment#findFile(File)}).
 	 *
 	 * @param position
 	 * 		The spoon position to map.
@@ -294,25 +304,8 @@ public abstract class CodeSmellDetector extends Scanner {
 	 */
 	private Optional<VCSFile> findFile(final SourcePosition position) {
 		return Optional.ofNullable(position)
-				// Make position canonical.
-				.map(p -> {
-					try {
-						return p.getFile().getCanonicalFile();
-					} catch (final IOException e) {
-						throw new UncheckedIOException(e);
-					}
-				})
-				// Compare with canonicalized vcs files.
-				.map(p -> environment.getRevision().getFiles().stream()
-						.filter(f -> {
-							try {
-								return f.toFile().getCanonicalFile().equals(p);
-							} catch (final IOException e) {
-								throw new UncheckedIOException(e);
-							}
-						})
-						.findFirst())
-				.map(f -> f.orElse(null));
+				.map(SourcePosition::getFile)
+				.flatMap(environment::findFile);
 	}
 
 	/**
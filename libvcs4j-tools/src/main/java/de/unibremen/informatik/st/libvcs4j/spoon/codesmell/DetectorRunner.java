@@ -0,0 +1,139 @@
+package de.unibremen.informatik.st.libvcs4j.spoon.codesmell;
+
+import de.unibremen.informatik.st.libvcs4j.Validate;
+import de.unibremen.informatik.st.libvcs4j.spoon.Cache;
+import de.unibremen.informatik.st.libvcs4j.spoon.Environment;
+import de.unibremen.informatik.st.libvcs4j.spoon.codesmell.coupler.CycleDetector;
+import de.unibremen.informatik.st.libvcs4j.spoon.codesmell.dispensable.UnusedCodeDetector;
+import lombok.NonNull;
+import spoon.reflect.CtModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs several {@link CodeSmellDetector}s on the {@link CtModel} of a single
+ * {@link Environment} and merges their code smells. The detectors scan the
+ * model concurrently, each in its own task, and share the {@link Cache} of the
+ * environment (see {@link Environment#getCache()}). Thus, a reference that has
+ * been resolved by one detector does not have to be resolved by any other
+ * detector again.
+ *
+ * The model is not split into parts (for example, per top-level type) as some
+ * detectors, such as the {@link CycleDetector} and the
+ * {@link UnusedCodeDetector}, analyse the model as a whole.
+ *
+ * Instances of this class are NOT threadsafe. That is, one should NOT call
+ * {@link #add(CodeSmellDetector)} or {@link #run(Executor)} on the same
+ * object from multiple threads.
+ */
+public class DetectorRunner {
+
+	/**
+	 * The environment of all detectors.
+	 */
+	private final Environment environment;
+
+	/**
+	 * The detectors to run.
+	 */
+	private final List<CodeSmellDetector> detectors = new ArrayList<>();
+
+	/**
+	 * Creates a new runner without any detector.
+	 *
+	 * @param environment
+	 * 		The environment of the detectors to run.
+	 * @throws NullPointerException
+	 * 		If {@code environment} is {@code null}.
+	 */
+	public DetectorRunner(@NonNull final Environment environment)
+			throws NullPointerException {
+		this.environment = environment;
+	}
+
+	/**
+	 * Adds the given detector.
+	 *
+	 * @param detector
+	 * 		The detector to add.
+	 * @return
+	 * 		This runner.
+	 * @throws NullPointerException
+	 * 		If {@code detector} is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code detector} has already been added or if its environment
+	 * 		is not the environment of this runner.
+	 */
+	public DetectorRunner add(@NonNull final CodeSmellDetector detector)
+			throws NullPointerException, IllegalArgumentException {
+		Validate.isTrue(detector.getEnvironment() == environment,
+				"Detector has a different environment");
+		Validate.isTrue(detectors.stream().noneMatch(d -> d == detector),
+				"Detector has already been added");
+		detectors.add(detector);
+		return this;
+	}
+
+	/**
+	 * Returns a copy of the added detectors.
+	 *
+	 * @return
+	 * 		A copy of the added detectors.
+	 */
+	public List<CodeSmellDetector> getDetectors() {
+		return new ArrayList<>(detectors);
+	}
+
+	/**
+	 * Runs all detectors using {@link ForkJoinPool#commonPool()}. See
+	 * {@link #run(Executor)} for further details.
+	 *
+	 * @return
+	 * 		The code smells of all detectors.
+	 */
+	public List<CodeSmell> run() {
+		return run(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Runs all detectors, each in its own task submitted to
+	 * {@code executor}, and waits until all of them have completed. The
+	 * returned list contains the code smells of the first detector, followed
+	 * by the code smells of the second detector, and so on (see
+	 * {@link #add(CodeSmellDetector)}). As the detectors keep their code
+	 * smells, running them again returns the code smells twice.
+	 *
+	 * @param executor
+	 * 		The executor to run the detectors with.
+	 * @return
+	 * 		The code smells of all detectors.
+	 * @throws NullPointerException
+	 * 		If {@code executor} is {@code null}.
+	 */
+	public List<CodeSmell> run(@NonNull final Executor executor)
+			throws NullPointerException {
+		final CtModel model = environment.getCtModel();
+		final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+		detectors.forEach(detector -> tasks.add(CompletableFuture
+				.runAsync(() -> detector.scan(model), executor)));
+		try {
+			CompletableFuture.allOf(tasks.toArray(
+					new CompletableFuture[0])).join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+		final List<CodeSmell> codeSmells = new ArrayList<>();
+		detectors.forEach(d -> codeSmells.addAll(d.getCodeSmells()));
+		return codeSmells;
+	}
+}
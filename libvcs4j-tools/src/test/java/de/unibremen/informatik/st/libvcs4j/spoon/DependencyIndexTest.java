@@ -0,0 +1,67 @@
+package de.unibremen.informatik.st.libvcs4j.spoon;
+
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DependencyIndexTest {
+
+	private static final Path A = Paths.get("/src/A.java");
+	private static final Path B = Paths.get("/src/B.java");
+	private static final Path C = Paths.get("/src/C.java");
+
+	private static Set<String> set(final String... values) {
+		return new HashSet<>(asList(values));
+	}
+
+	private DependencyIndex createIndex() {
+		final DependencyIndex index = new DependencyIndex();
+		index.put(A, set("A", "A$Inner"), set("A", "java.lang.String"));
+		index.put(B, set("B"), set("A", "B"));
+		index.put(C, set("C"), set("A$Inner", "B"));
+		return index;
+	}
+
+	@Test
+	public void getDependents() {
+		final DependencyIndex index = createIndex();
+		assertThat(index.getDependents(singletonList(A)))
+				.containsExactlyInAnyOrder(B, C);
+		assertThat(index.getDependents(singletonList(B)))
+				.containsExactly(C);
+		assertThat(index.getDependents(singletonList(C))).isEmpty();
+		assertThat(index.getDependents(asList(A, B))).containsExactly(C);
+		assertThat(index.getDependents(singletonList(Paths.get("/D.java"))))
+				.isEmpty();
+	}
+
+	@Test
+	public void replace() {
+		final DependencyIndex index = createIndex();
+		index.put(C, set("C"), set("java.lang.String"));
+		assertThat(index.getDependents(singletonList(A))).containsExactly(B);
+		assertThat(index.getDependents(singletonList(B))).isEmpty();
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	@Test
+	public void remove() {
+		final DependencyIndex index = createIndex();
+		index.remove(B);
+		assertThat(index.getDependents(singletonList(A))).containsExactly(C);
+		assertThat(index.getTypes(B)).isEmpty();
+		assertThat(index.getTypes(A)).containsExactlyInAnyOrder(
+				"A", "A$Inner");
+		assertThat(index.size()).isEqualTo(2);
+		index.clear();
+		assertThat(index.size()).isEqualTo(0);
+		assertThat(index.getDependents(singletonList(A))).isEmpty();
+	}
+}
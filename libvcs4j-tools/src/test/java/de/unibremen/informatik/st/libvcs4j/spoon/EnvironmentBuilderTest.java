@@ -19,6 +19,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.List;
@@ -268,6 +269,46 @@ public class EnvironmentBuilderTest {
 		assertThat(d2.getMethods()).isEmpty();
 	}
 
+	@Test
+	public void snapshot() throws IOException, BuildException {
+		when(firstRange.getRevision().getId()).thenReturn("1");
+		builder.update(firstRange);
+		Path snapshots = folder.newFolder("snapshots").toPath();
+		Path snapshot = builder.saveSnapshot(snapshots);
+		assertThat(snapshot).isDirectory();
+
+		EnvironmentBuilder resumed = new EnvironmentBuilder();
+		Optional<Environment> environment =
+				resumed.loadSnapshot(snapshots, firstRange);
+		assertThat(environment).isPresent();
+		assertThat(environment.get().getRevisionRange()).isSameAs(firstRange);
+		assertThat(environment.get().getCtModel().getAllTypes()).hasSize(4);
+
+		// The restored model is updated incrementally.
+		updateFile("D.java");
+		VCSFile dFile = new VCSFileMock("D.java");
+		FileChange dChange = new FileChangeMock(dFile, dFile);
+		RevisionRange second = new RevisionRangeMock(singletonList(dChange));
+		Collection<CtType<?>> updatedTypes =
+				resumed.update(second).getCtModel().getAllTypes();
+		assertThat(updatedTypes).hasSize(4);
+		CtType<?> d = getTypeByName(updatedTypes, "D");
+		assertThat(d.getDeclaredFields()).hasSize(2);
+		assertThat(d.getMethods()).hasSize(1);
+	}
+
+	@Test
+	public void noSnapshot() throws IOException, BuildException {
+		when(firstRange.getRevision().getId()).thenReturn("1");
+		builder.update(firstRange);
+		Path snapshots = folder.newFolder("snapshots").toPath();
+		builder.saveSnapshot(snapshots);
+
+		when(firstRange.getRevision().getId()).thenReturn("2");
+		assertThat(new EnvironmentBuilder().loadSnapshot(
+				snapshots, firstRange)).isEmpty();
+	}
+
 
 	///////////////////////////////////////////////////////////////////////////
 
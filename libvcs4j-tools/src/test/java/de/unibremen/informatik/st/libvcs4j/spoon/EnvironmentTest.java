@@ -0,0 +1,53 @@
+package de.unibremen.informatik.st.libvcs4j.spoon;
+
+import de.unibremen.informatik.st.libvcs4j.RevisionRange;
+import de.unibremen.informatik.st.libvcs4j.VCSFile;
+import de.unibremen.informatik.st.libvcs4j.spoon.codesmell.RevisionMock;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import spoon.reflect.CtModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EnvironmentTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void findFile() throws IOException {
+		RevisionMock revision = spy(new RevisionMock(folder));
+		revision.addFile(Paths.get("dataclass", "Triple.java"));
+		revision.addFile(Paths.get("long_method",
+				"LongMethodWithComments.java"));
+		VCSFile triple = revision.getFiles().get(0);
+		VCSFile longMethod = revision.getFiles().get(1);
+
+		RevisionRange revisionRange = mock(RevisionRange.class);
+		when(revisionRange.getRevision()).thenReturn(revision);
+
+		Environment environment =
+				new Environment(mock(CtModel.class), revisionRange);
+
+		File root = folder.getRoot();
+		assertThat(environment.findFile(new File(root,
+				"dataclass/../dataclass/Triple.java"))).contains(triple);
+		assertThat(environment.findFile(new File(root,
+				"long_method/LongMethodWithComments.java")))
+				.contains(longMethod);
+		assertThat(environment.findFile(new File(root, "Missing.java")))
+				.isEmpty();
+		assertThat(environment.findFile(null)).isEmpty();
+		verify(revision, times(1)).getFiles();
+	}
+}
@@ -0,0 +1,92 @@
+package de.unibremen.informatik.st.libvcs4j.spoon.codesmell;
+
+import de.unibremen.informatik.st.libvcs4j.RevisionRange;
+import de.unibremen.informatik.st.libvcs4j.spoon.Environment;
+import de.unibremen.informatik.st.libvcs4j.spoon.codesmell.bloater.LongMethodDetector;
+import de.unibremen.informatik.st.libvcs4j.spoon.codesmell.dispensable.DataClassDetector;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import spoon.Launcher;
+import spoon.reflect.CtModel;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DetectorRunnerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Environment createEnvironment() throws IOException {
+		RevisionMock revision = new RevisionMock(folder);
+		revision.addFile(Paths.get("long_method",
+				"LongMethodWithComments.java"));
+		revision.addFile(Paths.get("dataclass", "Triple.java"));
+
+		RevisionRange revisionRange = mock(RevisionRange.class);
+		when(revisionRange.getRevision()).thenReturn(revision);
+
+		Launcher launcher = new Launcher();
+		launcher.addInputResource(folder.getRoot().getAbsolutePath());
+		CtModel model = launcher.buildModel();
+
+		return new Environment(model, revisionRange);
+	}
+
+	@Test
+	public void mergeCodeSmells() throws IOException {
+		Environment environment = createEnvironment();
+
+		LongMethodDetector lmDetector = new LongMethodDetector(environment, 4);
+		DataClassDetector dcDetector = new DataClassDetector(environment);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		List<CodeSmell> codeSmells;
+		try {
+			codeSmells = new DetectorRunner(environment)
+					.add(lmDetector)
+					.add(dcDetector)
+					.run(executor);
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(codeSmells).hasSize(2);
+		assertThat(codeSmells.get(0).getDefinition().getName())
+				.isEqualTo("Long Method");
+		assertThat(codeSmells.get(1).getDefinition().getName())
+				.isEqualTo("Data Class");
+		assertThat(lmDetector.getCodeSmells()).hasSize(1);
+		assertThat(dcDetector.getCodeSmells()).hasSize(1);
+	}
+
+	@Test
+	public void differentEnvironment() throws IOException {
+		Environment environment = createEnvironment();
+		Environment other = new Environment(environment.getCtModel(),
+				environment.getRevisionRange());
+
+		DetectorRunner runner = new DetectorRunner(environment);
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> runner.add(new LongMethodDetector(other)));
+	}
+
+	@Test
+	public void addTwice() throws IOException {
+		Environment environment = createEnvironment();
+		LongMethodDetector lmDetector = new LongMethodDetector(environment);
+
+		DetectorRunner runner = new DetectorRunner(environment).add(lmDetector);
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> runner.add(lmDetector));
+	}
+}
@@ -1,9 +1,13 @@
 package de.unibremen.informatik.st.libvcs4j;
 
+import de.unibremen.informatik.st.libvcs4j.engine.AbstractITEngine;
+import de.unibremen.informatik.st.libvcs4j.engine.IssueCache;
+import de.unibremen.informatik.st.libvcs4j.engine.RateLimiter;
 import de.unibremen.informatik.st.libvcs4j.github.GithubEngine;
 import de.unibremen.informatik.st.libvcs4j.gitlab.GitlabEngine;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 @SuppressWarnings({"WeakerAccess", "unused"})
 public class ITEngineBuilder {
@@ -26,6 +30,14 @@ public class ITEngineBuilder {
 
 	private String token;
 
+	private Path cache;
+
+	private boolean offline = false;
+
+	private RateLimiter rateLimiter;
+
+	private IssueIdExtractor issueIdExtractor = IssueIdExtractor.DEFAULT;
+
 	////////////////////////////// Constructors ///////////////////////////////
 
 	public ITEngineBuilder(final String pRepository) {
@@ -90,7 +102,87 @@ public class ITEngineBuilder {
 		return this;
 	}
 
+	/**
+	 * Stores the fetched issues in the given file (see {@link IssueCache}).
+	 * Pass {@code null} to disable the cache (default).
+	 *
+	 * @param pCache
+	 * 		The file to store fetched issues in.
+	 * @return
+	 * 		This builder.
+	 */
+	public ITEngineBuilder withCache(final Path pCache) {
+		cache = pCache;
+		return this;
+	}
+
+	/**
+	 * Replays the issues stored in the file of {@link #withCache(Path)}
+	 * without contacting the issue tracker.
+	 *
+	 * @return
+	 * 		This builder.
+	 */
+	public ITEngineBuilder withOffline() {
+		offline = true;
+		return this;
+	}
+
+	public ITEngineBuilder withOnline() {
+		offline = false;
+		return this;
+	}
+
+	/**
+	 * Limits the rate of requests sent to the issue tracker (see
+	 * {@link RateLimiter}). Pass {@code null} to disable rate limiting
+	 * (default). Issues read from the cache of {@link #withCache(Path)} do
+	 * not count against the rate limit.
+	 *
+	 * @param pRateLimiter
+	 * 		The rate limiter to use.
+	 * @return
+	 * 		This builder.
+	 */
+	public ITEngineBuilder withRateLimiter(final RateLimiter pRateLimiter) {
+		rateLimiter = pRateLimiter;
+		return this;
+	}
+
+	/**
+	 * Sets the extractor used to parse the issue ids of commit messages
+	 * (default: {@link IssueIdExtractor#DEFAULT}).
+	 *
+	 * @param pExtractor
+	 * 		The extractor to use.
+	 * @return
+	 * 		This builder.
+	 * @throws NullPointerException
+	 * 		If {@code pExtractor} is {@code null}.
+	 */
+	public ITEngineBuilder withIssueIdExtractor(
+			final IssueIdExtractor pExtractor) throws NullPointerException {
+		issueIdExtractor = Validate.notNull(pExtractor);
+		return this;
+	}
+
 	public ITEngine build() throws IOException {
+		if (offline) {
+			Validate.validateState(cache != null,
+					"Offline mode requires a cache");
+			final IssueCache issueCache = new IssueCache(repository, cache);
+			issueCache.setIssueIdExtractor(issueIdExtractor);
+			return issueCache;
+		}
+		final AbstractITEngine itEngine = createEngine();
+		itEngine.setRateLimiter(rateLimiter);
+		itEngine.setIssueIdExtractor(issueIdExtractor);
+		return cache == null ? itEngine : new IssueCache(itEngine, cache);
+	}
+
+	///////////////////////////// helping methods /////////////////////////////
+
+	private AbstractITEngine createEngine() throws IOException {
 		if (engine == Engine.GITLAB) {
 			if (token != null) {
 				return new GitlabEngine(host, repository, token);
@@ -1,6 +1,11 @@
 package de.unibremen.informatik.st.libvcs4j;
 
 import de.unibremen.informatik.st.libvcs4j.engine.AbstractIntervalVCSEngine;
+import de.unibremen.informatik.st.libvcs4j.engine.AbstractVSCEngine;
+import de.unibremen.informatik.st.libvcs4j.engine.BlobStore;
+import de.unibremen.informatik.st.libvcs4j.engine.DiffCache;
+import de.unibremen.informatik.st.libvcs4j.engine.LineInfoCache;
+import de.unibremen.informatik.st.libvcs4j.engine.PipelineOptions;
 import de.unibremen.informatik.st.libvcs4j.filesystem.SingleEngine;
 import de.unibremen.informatik.st.libvcs4j.git.GitEngine;
 import de.unibremen.informatik.st.libvcs4j.hg.HGEngine;
@@ -18,6 +23,7 @@ import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * A generic builder for {@link VCSEngine} instances that has been designed to
@@ -146,6 +152,58 @@ public class VCSEngineBuilder {
 	 */
 	private ITEngine itEngine = null;
 
+	/**
+	 * Stores whether a Git repository should be processed without a working
+	 * tree.
+	 */
+	private boolean bareMode = false;
+
+	/**
+	 * Stores the options of the pipelined processing of revisions.
+	 */
+	private PipelineOptions pipelineOptions = null;
+
+	/**
+	 * Stores the diff cache of the engine. Only applied if
+	 * {@link #customDiffCache} is {@code true}.
+	 */
+	private DiffCache diffCache = null;
+
+	/**
+	 * Stores whether {@link #diffCache} replaces the default cache of the
+	 * engine.
+	 */
+	private boolean customDiffCache = false;
+
+	/**
+	 * Stores the blob store of the engine. Only applied if
+	 * {@link #customBlobStore} is {@code true}.
+	 */
+	private BlobStore blobStore = null;
+
+	/**
+	 * Stores whether {@link #blobStore} replaces the default store of the
+	 * engine.
+	 */
+	private boolean customBlobStore = false;
+
+	/**
+	 * Stores the cache used to compute line information incrementally.
+	 */
+	private LineInfoCache lineInfoCache = null;
+
+	/**
+	 * Stores the executor used to read the line information of several files
+	 * concurrently.
+	 */
+	private Executor lineInfoExecutor = null;
+
+	/**
+	 * Stores whether the first revision range should be computed against the
+	 * predecessor of the first revision to process.
+	 */
+	private boolean seededStart = false;
+
 	////////////////////////////// Constructors ///////////////////////////////
 
 	/**
@@ -536,6 +594,23 @@ public class VCSEngineBuilder {
 		return this;
 	}
 
+	/**
+	 * Configures the engine such that the first revision range is computed
+	 * against the predecessor of the first revision to process rather than
+	 * reporting all files as added (see
+	 * {@link AbstractIntervalVCSEngine#setSeededStart(boolean)}). Use this
+	 * option in combination with {@link #withStartIdx(int)} and
+	 * {@link #withEndIdx(int)} to split the processing of a repository into
+	 * several contiguous shards. Has no effect on {@link SingleEngine}.
+	 *
+	 * @return
+	 * 		This builder.
+	 */
+	public VCSEngineBuilder withSeededStart() {
+		seededStart = true;
+		return this;
+	}
+
 	/**
 	 * Sets the {@link ITEngine}. {@code null} values are permitted.
 	 *
@@ -549,6 +624,108 @@ public class VCSEngineBuilder {
 		return this;
 	}
 
+	/**
+	 * Configures the engine such that the repository is cloned without a
+	 * working tree. That is, revisions are not checked out and the contents
+	 * of files are read from the object database of the repository. Hence,
+	 * the files of the currently processed revision are not physically
+	 * available at {@link VCSEngine#getOutput()}. Currently, only Git supports
+	 * this mode (see {@link GitEngine#setBare(boolean)}). Other engines ignore
+	 * this setting.
+	 *
+	 * @return
+	 * 		This builder.
+	 */
+	public VCSEngineBuilder withBareMode() {
+		bareMode = true;
+		return this;
+	}
+
+	/**
+	 * Sets the options of the pipelined processing of revisions (see
+	 * {@link AbstractVSCEngine#setPipelineOptions(PipelineOptions)}).
+	 * {@code null} values are permitted and disable pipelining (default).
+	 *
+	 * @param pipelineOptions
+	 * 		The options of the pipelined processing of revisions.
+	 * @return
+	 * 		This builder.
+	 */
+	public VCSEngineBuilder withPipelineOptions(
+			final PipelineOptions pipelineOptions) {
+		this.pipelineOptions = pipelineOptions;
+		return this;
+	}
+
+	/**
+	 * Sets the cache of computed diffs (see
+	 * {@link AbstractVSCEngine#setDiffCache(DiffCache)}). {@code null} values
+	 * are permitted and disable caching. If this method is not called, the
+	 * engine uses a cache with {@link DiffCache#DEFAULT_BUDGET}.
+	 *
+	 * @param diffCache
+	 * 		The cache of computed diffs.
+	 * @return
+	 * 		This builder.
+	 */
+	public VCSEngineBuilder withDiffCache(final DiffCache diffCache) {
+		this.diffCache = diffCache;
+		this.customDiffCache = true;
+		return this;
+	}
+
+	/**
+	 * Sets the store of file contents (see
+	 * {@link AbstractVSCEngine#setBlobStore(BlobStore)}). {@code null} values
+	 * are permitted and disable the store. If this method is not called, the
+	 * engine uses a store with {@link BlobStore#DEFAULT_BUDGET}.
+	 *
+	 * @param blobStore
+	 * 		The store of file contents.
+	 * @return
+	 * 		This builder.
+	 */
+	public VCSEngineBuilder withBlobStore(final BlobStore blobStore) {
+		this.blobStore = blobStore;
+		this.customBlobStore = true;
+		return this;
+	}
+
+	/**
+	 * Sets the cache used to compute line information incrementally (see
+	 * {@link AbstractVSCEngine#setLineInfoCache(LineInfoCache)}).
+	 * {@code null} values are permitted and disable the incremental
+	 * computation (default).
+	 *
+	 * @param lineInfoCache
+	 * 		The cache used to compute line information incrementally.
+	 * @return
+	 * 		This builder.
+	 */
+	public VCSEngineBuilder withLineInfoCache(
+			final LineInfoCache lineInfoCache) {
+		this.lineInfoCache = lineInfoCache;
+		return this;
+	}
+
+	/**
+	 * Sets the executor used to read the line information of several files
+	 * concurrently (see
+	 * {@link AbstractVSCEngine#setLineInfoExecutor(Executor)}). {@code null}
+	 * values are permitted and cause files to be read one after another
+	 * (default).
+	 *
+	 * @param lineInfoExecutor
+	 * 		The executor used to read the line information of several files.
+	 * @return
+	 * 		This builder.
+	 */
+	public VCSEngineBuilder withLineInfoExecutor(
+			final Executor lineInfoExecutor) {
+		this.lineInfoExecutor = lineInfoExecutor;
+		return this;
+	}
+
 	/**
 	 * Creates the engine.
 	 *
@@ -620,6 +797,7 @@ public class VCSEngineBuilder {
 					throw new IllegalStateException(String.format(
 							"Unknown interval '%s'", interval));
 				}
+				((GitEngine) vcsEngine).setBare(bareMode);
 			} else if (engine == Engine.HG) {
 				if (interval == Interval.DATE) {
 					vcsEngine = new HGEngine(
@@ -662,6 +840,26 @@ public class VCSEngineBuilder {
 		if (itEngine != null) {
 			vcsEngine.setITEngine(itEngine);
 		}
+		if (seededStart && vcsEngine instanceof AbstractIntervalVCSEngine) {
+			((AbstractIntervalVCSEngine) vcsEngine).setSeededStart(true);
+		}
+		if (customDiffCache) {
+			((AbstractVSCEngine) vcsEngine).setDiffCache(diffCache);
+		}
+		if (customBlobStore) {
+			((AbstractVSCEngine) vcsEngine).setBlobStore(blobStore);
+		}
+		if (lineInfoExecutor != null) {
+			((AbstractVSCEngine) vcsEngine)
+					.setLineInfoExecutor(lineInfoExecutor);
+		}
+		if (lineInfoCache != null) {
+			((AbstractVSCEngine) vcsEngine).setLineInfoCache(lineInfoCache);
+		}
+		if (pipelineOptions != null) {
+			((AbstractVSCEngine) vcsEngine)
+					.setPipelineOptions(pipelineOptions);
+		}
 		return vcsEngine;
 	}
 
@@ -1,14 +1,22 @@
 package de.unibremen.informatik.st.libvcs4j.engine;
 
 import de.unibremen.informatik.st.libvcs4j.ITEngine;
+import de.unibremen.informatik.st.libvcs4j.IssueIdExtractor;
 import de.unibremen.informatik.st.libvcs4j.ItModelFactory;
 import de.unibremen.informatik.st.libvcs4j.Validate;
 import lombok.NonNull;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
 public abstract class AbstractITEngine implements ITEngine {
 
 	private final String repository;
 	private ItModelFactory modelFactory = new ItModelFactory() {};
+	private volatile RateLimiter rateLimiter = null;
+	private volatile IssueIdExtractor issueIdExtractor =
+			IssueIdExtractor.DEFAULT;
 
 	public AbstractITEngine(final String pRepository) {
 		this.repository = Validate.notEmpty(pRepository);
@@ -28,4 +36,62 @@ public abstract class AbstractITEngine implements ITEngine {
 	public void setModelFactory(@NonNull final ItModelFactory factory) {
 		modelFactory = factory;
 	}
+
+	/**
+	 * Parses the given text using the configured extractor (see
+	 * {@link #setIssueIdExtractor(IssueIdExtractor)}).
+	 */
+	@Override
+	public List<String> parseIssueIds(final String pText) {
+		return issueIdExtractor.extract(pText);
+	}
+
+	/**
+	 * Sets the extractor used to parse issue ids (see
+	 * {@link #parseIssueIds(String)}). By default,
+	 * {@link IssueIdExtractor#DEFAULT} is used.
+	 *
+	 * @param pExtractor
+	 * 		The extractor to use.
+	 * @throws NullPointerException
+	 * 		If {@code pExtractor} is {@code null}.
+	 */
+	public void setIssueIdExtractor(final IssueIdExtractor pExtractor)
+			throws NullPointerException {
+		issueIdExtractor = Validate.notNull(pExtractor);
+	}
+
+	public IssueIdExtractor getIssueIdExtractor() {
+		return issueIdExtractor;
+	}
+
+	/**
+	 * Sets the rate limiter consulted before each request sent to the issue
+	 * tracker. Pass {@code null} (default) to disable rate limiting.
+	 *
+	 * @param pRateLimiter
+	 * 		The rate limiter to use or {@code null} to disable rate limiting.
+	 */
+	public void setRateLimiter(final RateLimiter pRateLimiter) {
+		rateLimiter = pRateLimiter;
+	}
+
+	public Optional<RateLimiter> getRateLimiter() {
+		return Optional.ofNullable(rateLimiter);
+	}
+
+	/**
+	 * Blocks until the rate limiter (if any) permits a request to the issue
+	 * tracker. Subclasses are supposed to call this method before each
+	 * request.
+	 *
+	 * @throws IOException
+	 * 		If the calling thread has been interrupted while waiting.
+	 */
+	protected void acquire() throws IOException {
+		final RateLimiter limiter = rateLimiter;
+		if (limiter != null) {
+			limiter.acquire();
+		}
+	}
 }
@@ -33,6 +33,11 @@ public abstract class AbstractIntervalVCSEngine extends AbstractVSCEngine {
 	private final int startIdx;
 	private final int endIdx;
 
+	/* Seeded start (see setSeededStart). */
+	private boolean seededStart = false;
+	private String seedRevision = null;
+	private int firstOrdinal = 1;
+
 	/**
 	 * Latest revision constructor.
 	 */
@@ -95,6 +100,52 @@ public abstract class AbstractIntervalVCSEngine extends AbstractVSCEngine {
 				"Start (%d) >= end (%d)", startIdx, endIdx);
 	}
 
+	/**
+	 * Returns whether the first revision range is computed against the
+	 * actual predecessor of the first revision to process (see
+	 * {@link #setSeededStart(boolean)}).
+	 *
+	 * @return
+	 * 		{@code true} if the seeded start is enabled, {@code false}
+	 * 		otherwise.
+	 */
+	public boolean isSeededStart() {
+		return seededStart;
+	}
+
+	/**
+	 * Enables or disables the seeded start. By default, all files of the
+	 * first processed revision are reported as added. If the seeded start is
+	 * enabled and the first revision to process has a predecessor (in the
+	 * list of all revisions of the repository), the first revision range is
+	 * computed against this predecessor and ordinals are counted from the
+	 * position of the first revision. Hence, splitting the revisions of a
+	 * repository into contiguous shards (for instance, using
+	 * {@link VCSEngineBuilder#withStartIdx(int)} and
+	 * {@link VCSEngineBuilder#withEndIdx(int)}) and processing each shard
+	 * with a separate seeded engine yields the same revision ranges as a
+	 * single engine processing all revisions. Must be set before
+	 * {@link #next()} or {@link #listRevisions()} is called for the first
+	 * time.
+	 *
+	 * @param pSeededStart
+	 * 		{@code true} to enable the seeded start, {@code false} to disable
+	 * 		it.
+	 */
+	public void setSeededStart(final boolean pSeededStart) {
+		seededStart = pSeededStart;
+	}
+
+	@Override
+	protected Optional<String> getSeedRevision() {
+		return Optional.ofNullable(seedRevision);
+	}
+
+	@Override
+	protected int getFirstOrdinal() {
+		return firstOrdinal;
+	}
+
 	boolean isDateTimeInterval() {
 		return since != null;
 	}
@@ -110,30 +161,44 @@ public abstract class AbstractIntervalVCSEngine extends AbstractVSCEngine {
 	@Override
 	protected final List<String> listRevisionsImpl() throws IOException {
 		final List<String> revisions;
+		List<String> all = null;
 		if (isDateTimeInterval()) {
 			revisions = listRevisionsImpl(since, until);
 		} else if (isRevisionInterval()) {
 			revisions = listRevisionsImpl(from, to);
 		} else if (isRangeInterval()) {
-			revisions = listRevisionsImpl(startIdx, endIdx);
+			all = listAllRevisions();
+			revisions = startIdx >= all.size()
+					? Collections.emptyList()
+					: all.subList(startIdx, Math.min(endIdx, all.size()));
 		} else {
 			final Optional<String> latest = getLatestRevision();
-			return latest.map(Collections::singletonList)
+			revisions = latest.map(Collections::singletonList)
 					.orElseGet(Collections::emptyList);
 		}
 		IllegalReturnException.noNullElements(revisions);
+
+		if (seededStart && !revisions.isEmpty()) {
+			if (all == null) {
+				all = listAllRevisions();
+			}
+			final int idx = isRangeInterval()
+					? startIdx
+					: all.indexOf(revisions.get(0));
+			if (idx > 0) {
+				seedRevision = all.get(idx - 1);
+				firstOrdinal = idx + 1;
+			}
+		}
 		return revisions;
 	}
 
-	private List<String> listRevisionsImpl(final int startIdx,
-			final int endIdx) throws IOException {
+	private List<String> listAllRevisions() throws IOException {
 		final List<String> revs = listRevisionsImpl(
 				VCSEngineBuilder.DEFAULT_SINCE,
 				VCSEngineBuilder.DEFAULT_UNTIL);
-		if (startIdx >= revs.size()) {
-			return Collections.emptyList();
-		}
-		return revs.subList(startIdx, Math.min(endIdx, revs.size()));
+		IllegalReturnException.noNullElements(revs);
+		return revs;
 	}
 
 	protected abstract Optional<String> getLatestRevision() throws IOException;
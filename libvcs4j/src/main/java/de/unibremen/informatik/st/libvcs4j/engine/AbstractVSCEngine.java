@@ -1,8 +1,5 @@
 package de.unibremen.informatik.st.libvcs4j.engine;
 
-import bmsi.util.Diff;
-import com.ibm.icu.text.CharsetDetector;
-import com.ibm.icu.text.CharsetMatch;
 import de.unibremen.informatik.st.libvcs4j.Commit;
 import de.unibremen.informatik.st.libvcs4j.FileChange;
 import de.unibremen.informatik.st.libvcs4j.ITEngine;
@@ -20,25 +17,51 @@ import lombok.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.FilenameFilter;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An abstract base implementation of {@link VCSEngine}. This class assumes
@@ -51,6 +74,12 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 	private static final Logger log = LoggerFactory
 			.getLogger(AbstractVSCEngine.class);
 
+	/**
+	 * The maximum number of seconds to wait for the worker threads of the
+	 * pipelined processing to terminate (see {@link #close()}).
+	 */
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
 	/* VCS related configurations. */
 	private final String repository;
 	private final String root;
@@ -69,6 +98,49 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 	private int revisionIdx = -1;
 	private String revision = null;
 	private Revision currentRevision = null;
+	/* relative paths of the files of `revision` (maintained incrementally) */
+	private NavigableSet<String> filesOfRevision = null;
+	private RevisionRange currentRange = null;
+	/* new path -> file change of currentRange (computed on demand) */
+	private Map<String, FileChange> currentChanges = null;
+	private String seedRevision = null;
+
+	/* Caches. */
+	private DiffCache diffCache = new DiffCache();
+	private BlobStore blobStore = new BlobStore();
+	private LineInfoCache lineInfoCache = null;
+
+	/* Batched line information (see readLineInfo(Collection, BiConsumer)). */
+	private Executor lineInfoExecutor = null;
+
+	/* Pipelining (see PipelineOptions). */
+	private PipelineOptions pipelineOptions = null;
+	private ExecutorService pipelineExecutor = null;
+	/* revision index -> prepared revision */
+	private final Map<Integer, Future<Prepared>> prepared = new HashMap<>();
+
+	/**
+	 * The content id of a file and, if it had to be read to compute the id,
+	 * its content. Both are {@code null} if there is no file.
+	 */
+	private static class Content {
+		private String id;
+		private byte[] bytes;
+	}
+
+	/**
+	 * Stores the changes, commit, and issues of a revision that has been
+	 * prepared in advance. {@link #changes} is {@code null} if the engine
+	 * does not support concurrent reads or if the revision is the first one.
+	 * {@link #commit} has neither file changes nor issues. The issues are
+	 * fetched independently of the changes, such that slow issue trackers do
+	 * not delay the preparation of subsequent revisions.
+	 */
+	private static class Prepared {
+		private Changes changes;
+		private Commit commit;
+		private CompletableFuture<List<Issue>> issues;
+	}
 
 	public AbstractVSCEngine(
 	        final String pRepository, final String pRoot, final Path pTarget)
@@ -108,9 +180,18 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 		// there are not more revisions available
 		if (revisionIdx >= revisions.size()) {
 			revisionIdx = revisions.size(); // prevent overflows
+			cancelPrepared();
 			return Optional.empty();
 		}
+		final Prepared next = takePrepared(revisionIdx);
+		prepareAhead();
 
+		if (revisionIdx == 0 && seedRevision != null) {
+			log.info("Checking out seed {}", seedRevision);
+			checkoutImpl(seedRevision);
+			revision = seedRevision;
+			currentRevision = createRevision();
+		}
 		log.info("Checking out {} ({}/{})",
 				revisions.get(revisionIdx),
 				revisionIdx+1,
@@ -119,18 +200,27 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 		revision = revisions.get(revisionIdx);
 
 		final Changes changes;
-		// the first revision can only have additions
-		if (revisionIdx == 0) {
+		// the first revision can only have additions (unless seeded)
+		if (revisionIdx == 0 && seedRevision == null) {
 			changes = new Changes();
-			listFilesInOutput().stream()
-					.map(Path::toString)
-					.forEach(f -> changes.getAdded().add(f));
+			final Path output = getOutput();
+			filesOfRevision = new TreeSet<>();
+			listFilesInOutput().forEach(f -> {
+				changes.getAdded().add(f.toString());
+				filesOfRevision.add(output.relativize(f).toString());
+			});
 		} else {
-			changes = createChangesImpl(getPreviousRevision(), revision);
+			changes = next != null && next.changes != null
+					? next.changes
+					: createChangesImpl(getPreviousRevision(), revision);
 			mapChanges(changes);
 		}
-		final RevisionRange range = createRevisionRange(changes);
+		final RevisionRange range = createRevisionRange(changes, next);
 		currentRevision = range.getRevision();
+		synchronized (this) {
+			currentRange = range;
+			currentChanges = null;
+		}
 		return Optional.of(range);
 	}
 
@@ -140,17 +230,27 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 		Validate.notNull(pFile);
 		final String rev = pFile.getRevision().getId();
 		init();
-		Validate.isTrue(revisions.contains(rev));
-		if (revision != null && revision.equals(rev)) {
+		Validate.isTrue(isKnownRevision(rev));
+		if (hasWorkingCopy() && revision != null && revision.equals(rev)) {
 			Validate.isTrue(pFile.toFile().isFile(),
 					"'%s' is not a file", pFile.toPath());
 			return Files.readAllBytes(pFile.toPath());
-		} else {
-			final byte[] bytes = readAllBytesImpl(
-					pFile.getRelativePath(), rev);
-			IllegalReturnException.notNull(bytes);
-			return bytes;
 		}
+		final BlobStore store = blobStore;
+		final Optional<String> id = store == null
+				? Optional.empty()
+				: readContentIdImpl(pFile.getRelativePath(), rev);
+		IllegalReturnException.notNull(id);
+		if (id.isPresent()) {
+			final Optional<byte[]> stored = store.getBytes(id.get());
+			if (stored.isPresent()) {
+				return stored.get();
+			}
+		}
+		final byte[] bytes = readAllBytesImpl(pFile.getRelativePath(), rev);
+		IllegalReturnException.notNull(bytes);
+		id.ifPresent(i -> store.putBytes(i, bytes));
+		return bytes;
 	}
 
 	@Override
@@ -159,12 +259,74 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 		Validate.notNull(pFile);
 		final String rev = pFile.getRevision().getId();
 		init();
-		Validate.isTrue(revisions.contains(rev));
+		Validate.isTrue(isKnownRevision(rev));
+		final LineInfoCache cache = lineInfoCache;
+		if (cache != null) {
+			final List<LineInfo> lineInfo = readLineInfo(pFile, cache);
+			if (lineInfo != null) {
+				cache.hit();
+				return lineInfo;
+			}
+			cache.miss();
+		}
 		final List<LineInfo> lineInfo = readLineInfoImpl(pFile);
 		IllegalReturnException.noNullElements(lineInfo);
+		if (cache != null) {
+			cache.put(rev, pFile.getRelativePath(),
+					cache.attributionsOf(rev, lineInfo));
+		}
 		return lineInfo;
 	}
 
+	/**
+	 * Reads the line information of the given files. If an executor is set
+	 * (see {@link #setLineInfoExecutor(Executor)}) and this engine supports
+	 * concurrent reads (see {@link #supportsConcurrentReads()}), the files
+	 * are read by the executor and {@code pConsumer} receives the line
+	 * information of the files in the order they complete. Otherwise, the
+	 * files are read one after another by the calling thread.
+	 */
+	@Override
+	public void readLineInfo(final Collection<VCSFile> pFiles,
+			final BiConsumer<VCSFile, List<LineInfo>> pConsumer)
+			throws NullPointerException, IllegalArgumentException,
+			IOException {
+		Validate.noNullElements(pFiles);
+		Validate.notNull(pConsumer);
+		final Executor executor = lineInfoExecutor;
+		if (executor == null || pFiles.size() < 2 ||
+				!supportsConcurrentReads()) {
+			VCSEngine.super.readLineInfo(pFiles, pConsumer);
+			return;
+		}
+		init();
+
+		final CompletionService<Map.Entry<VCSFile, List<LineInfo>>> service =
+				new ExecutorCompletionService<>(executor);
+		final List<Future<Map.Entry<VCSFile, List<LineInfo>>>> futures =
+				new ArrayList<>(pFiles.size());
+		try {
+			for (final VCSFile file : pFiles) {
+				futures.add(service.submit(() ->
+						new AbstractMap.SimpleEntry<>(
+								file, readLineInfo(file))));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				final Map.Entry<VCSFile, List<LineInfo>> lineInfo =
+						getResult(service.take(),
+								"Interrupted while reading line information");
+				pConsumer.accept(lineInfo.getKey(), lineInfo.getValue());
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(
+					"Interrupted while reading line information");
+		} finally {
+			// Skip the remaining files if an error occurred.
+			futures.forEach(f -> f.cancel(false));
+		}
+	}
+
 	@Override
 	public final Iterator<RevisionRange> iterator() {
 		return new Iterator<RevisionRange>() {
@@ -200,48 +362,50 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 	public List<LineChange> computeDiff(final FileChange fileChange)
 			throws NullPointerException, IOException {
 		Validate.notNull(fileChange);
-		final String LINE_SEPARATOR = "\\r?\\n";
-
-		final Optional<VCSFile> oldFile = fileChange.getOldFile();
-		final String[] old = oldFile.isPresent()
-				? oldFile.get().readeContent().split(LINE_SEPARATOR)
-				: new String[0];
-		final Optional<VCSFile> nevFile = fileChange.getNewFile();
-		final String[] nev = nevFile.isPresent()
-				? nevFile.get().readeContent().split(LINE_SEPARATOR)
-				: new String[0];
-
-		final Diff diff = new Diff(old, nev);
-		Diff.change change = diff.diff_2(false);
-		final List<LineChange> lineChanges = new ArrayList<>();
-		while (change != null) {
-			final Diff.change c = change;
-			for (int i = 0; i < change.deleted; i++) {
-				final int line = c.line0 + i + 1;
-				final LineChange lineChange =
-						getModelFactory().createLineChange(
-								LineChange.Type.DELETE, line, old[line - 1],
-								oldFile.orElseThrow(() ->
-										new IllegalStateException(
-												"Missing old file.")),
-								this);
-				lineChanges.add(lineChange);
-			}
-			for (int i = 0; i < change.inserted; i++) {
-				final int line = c.line1 + i + 1;
-				final LineChange lineChange =
-						getModelFactory().createLineChange(
-								LineChange.Type.INSERT, line, nev[line - 1],
-								nevFile.orElseThrow(() ->
-										new IllegalStateException(
-												"Missing new file.")),
-								this);
-				lineChanges.add(lineChange);
-			}
-			change = change.link;
-		}
+		final VCSFile oldFile = fileChange.getOldFile().orElse(null);
+		final VCSFile nevFile = fileChange.getNewFile().orElse(null);
+		return computeLineDiff(fileChange)
+				.toLineChanges(oldFile, nevFile, this);
+	}
 
-		return lineChanges;
+	/**
+	 * Computes the line diff of the given file change. Unlike
+	 * {@link #computeDiff(FileChange)}, the returned diff is a compact list
+	 * of hunks which does not decode the content of unchanged lines. If a
+	 * {@link DiffCache} is set, diffs are looked up by the content ids of the
+	 * old and new file (see {@link #readContentIdImpl(String, String)}) such
+	 * that the contents of a file change are diffed only once.
+	 *
+	 * @param fileChange
+	 * 		The file change to compute the line diff for.
+	 * @return
+	 * 		The line diff of {@code fileChange}.
+	 * @throws NullPointerException
+	 * 		If {@code fileChange} is {@code null}.
+	 * @throws IOException
+	 * 		If an error occurred while reading the content of the old or new
+	 * 		file.
+	 */
+	public LineDiff computeLineDiff(final FileChange fileChange)
+			throws NullPointerException, IOException {
+		Validate.notNull(fileChange);
+		final VCSFile oldFile = fileChange.getOldFile().orElse(null);
+		final VCSFile nevFile = fileChange.getNewFile().orElse(null);
+		final DiffCache cache = diffCache;
+		if (cache == null) {
+			return LineDiff.compute(oldFile, nevFile);
+		}
+		final Content oldContent = readContent(oldFile);
+		final Content nevContent = readContent(nevFile);
+		final Optional<LineDiff> cached =
+				cache.get(oldContent.id, nevContent.id);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		final LineDiff diff = LineDiff.compute(
+				oldFile, oldContent.bytes, nevFile, nevContent.bytes);
+		cache.put(oldContent.id, nevContent.id, diff);
+		return diff;
 	}
 
 	@Override
@@ -257,18 +421,38 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 	@Override
 	public Optional<Charset> guessCharset(final VCSFile file)
 			throws IOException {
-		final CharsetDetector detector = new CharsetDetector();
-		detector.setText(file.readAllBytes());
-		final CharsetMatch match = detector.detect();
-		Charset charset;
-		try {
-			charset = Optional.ofNullable(match)
-					.map(m -> Charset.forName(m.getName()))
-					.orElse(null);
-		} catch (final Exception e) {
-			charset = null;
+		final BlobStore store = blobStore;
+		if (store == null) {
+			return CharsetGuesser.guess(file.readAllBytes());
+		}
+		final Content content = readContent(file);
+		final Optional<Optional<Charset>> guessed =
+				store.findGuessedCharset(content.id);
+		if (guessed.isPresent()) {
+			return guessed.get();
+		}
+		final Optional<Charset> charset = CharsetGuesser.guess(
+				content.bytes != null ? content.bytes : file.readAllBytes());
+		store.putCharset(content.id, charset);
+		return charset;
+	}
+
+	@Override
+	public boolean isBinary(final VCSFile file) throws IOException {
+		final String fileName = file.toPath().getFileName().toString();
+		final BlobStore store = blobStore;
+		if (store == null) {
+			return VCSFile.isBinary(file.readAllBytes(), fileName);
+		}
+		final Content content = readContent(file);
+		Boolean binary = store.getBinary(content.id, fileName);
+		if (binary == null) {
+			binary = VCSFile.isBinary(content.bytes != null
+					? content.bytes
+					: file.readAllBytes(), fileName);
+			store.putBinary(content.id, fileName, binary);
 		}
-		return Optional.ofNullable(charset);
+		return binary;
 	}
 
 	@Override
@@ -282,6 +466,165 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 		modelFactory = factory;
 	}
 
+	/**
+	 * Enables or disables (if {@code null} is passed) the pipelined
+	 * processing of revisions (see {@link PipelineOptions}). Revisions that
+	 * have been prepared with the previous options are discarded. Returns
+	 * after the worker threads of the previous options have been stopped
+	 * (see {@link #SHUTDOWN_TIMEOUT_SECONDS}).
+	 *
+	 * @param pOptions
+	 * 		The options to use or {@code null} to disable pipelining.
+	 */
+	public void setPipelineOptions(final PipelineOptions pOptions) {
+		final ExecutorService previous;
+		synchronized (this) {
+			cancelPrepared();
+			previous = pipelineExecutor;
+			pipelineExecutor = null;
+			pipelineOptions = pOptions;
+			if (pipelineOptions != null) {
+				final AtomicInteger count = new AtomicInteger();
+				pipelineExecutor = Executors.newFixedThreadPool(
+						pipelineOptions.getThreads(), runnable -> {
+							final Thread thread = new Thread(runnable,
+									"libvcs4j-pipeline-" +
+											count.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						});
+			}
+		}
+		// Workers may need the lock of this engine to finish.
+		if (previous != null) {
+			shutdownAndAwait(previous);
+		}
+	}
+
+	/**
+	 * Returns the options of the pipelined processing of revisions.
+	 *
+	 * @return
+	 * 		The options of the pipelined processing of revisions or an empty
+	 * 		{@link Optional} if pipelining is disabled.
+	 */
+	public Optional<PipelineOptions> getPipelineOptions() {
+		return Optional.ofNullable(pipelineOptions);
+	}
+
+	/**
+	 * Stops the worker threads of the pipelined processing, if any, and waits
+	 * for them to terminate. Subclasses overriding this method must call
+	 * {@code super.close()} before releasing resources used by the workers.
+	 * As workers may need the lock of this engine, {@code super.close()} must
+	 * not be called while holding it.
+	 */
+	@Override
+	public void close() {
+		setPipelineOptions(null);
+	}
+
+	/**
+	 * Sets the cache used by {@link #computeLineDiff(FileChange)} (and thus
+	 * by {@link #computeDiff(FileChange)}). Pass {@code null} to disable
+	 * caching. By default, a {@link DiffCache} with
+	 * {@link DiffCache#DEFAULT_BUDGET} is used.
+	 *
+	 * @param pDiffCache
+	 * 		The cache to use or {@code null} to disable caching.
+	 */
+	public void setDiffCache(final DiffCache pDiffCache) {
+		diffCache = pDiffCache;
+	}
+
+	/**
+	 * Returns the cache used by {@link #computeLineDiff(FileChange)}.
+	 *
+	 * @return
+	 * 		The cache used by {@link #computeLineDiff(FileChange)} or an empty
+	 * 		{@link Optional} if caching is disabled.
+	 */
+	public Optional<DiffCache> getDiffCache() {
+		return Optional.ofNullable(diffCache);
+	}
+
+	/**
+	 * Sets the store used to share the contents, the guessed charsets, and
+	 * the binary state of files across revisions (see {@link BlobStore}).
+	 * Pass {@code null} to disable the store. By default, a
+	 * {@link BlobStore} with {@link BlobStore#DEFAULT_BUDGET} is used.
+	 *
+	 * @param pBlobStore
+	 * 		The store to use or {@code null} to disable the store.
+	 */
+	public void setBlobStore(final BlobStore pBlobStore) {
+		blobStore = pBlobStore;
+	}
+
+	/**
+	 * Returns the store used to share the contents, the guessed charsets, and
+	 * the binary state of files across revisions.
+	 *
+	 * @return
+	 * 		The store used to share file contents or an empty {@link Optional}
+	 * 		if the store is disabled.
+	 */
+	public Optional<BlobStore> getBlobStore() {
+		return Optional.ofNullable(blobStore);
+	}
+
+	/**
+	 * Enables or disables (if {@code null} is passed) the incremental
+	 * computation of line information (see {@link LineInfoCache}). By
+	 * default, the line information of each file is computed from scratch
+	 * (see {@link #readLineInfoImpl(VCSFile)}).
+	 *
+	 * @param pLineInfoCache
+	 * 		The cache to use or {@code null} to disable the incremental
+	 * 		computation.
+	 */
+	public void setLineInfoCache(final LineInfoCache pLineInfoCache) {
+		lineInfoCache = pLineInfoCache;
+	}
+
+	/**
+	 * Returns the cache used to compute line information incrementally.
+	 *
+	 * @return
+	 * 		The cache used to compute line information incrementally or an
+	 * 		empty {@link Optional} if the incremental computation is disabled.
+	 */
+	public Optional<LineInfoCache> getLineInfoCache() {
+		return Optional.ofNullable(lineInfoCache);
+	}
+
+	/**
+	 * Sets the executor used to read the line information of several files
+	 * concurrently (see {@link #readLineInfo(Collection, BiConsumer)}). Pass
+	 * {@code null} to read files one after another (default). The executor
+	 * is not shut down by this engine.
+	 *
+	 * @param pExecutor
+	 * 		The executor to use or {@code null} to read files one after
+	 * 		another.
+	 */
+	public void setLineInfoExecutor(final Executor pExecutor) {
+		lineInfoExecutor = pExecutor;
+	}
+
+	/**
+	 * Returns the executor used to read the line information of several
+	 * files concurrently.
+	 *
+	 * @return
+	 * 		The executor used to read the line information of several files
+	 * 		concurrently or an empty {@link Optional} if files are read one
+	 * 		after another.
+	 */
+	public Optional<Executor> getLineInfoExecutor() {
+		return Optional.ofNullable(lineInfoExecutor);
+	}
+
 	/**
 	 * Returns the revisions to process. If necessary, the first call of this
 	 * method initializes the repository---for instance, cloning the repository
@@ -299,30 +642,39 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 
 	///////////////////////////// helping methods /////////////////////////////
 
-	private void mapChanges(final Changes pChanges) throws IOException {
-		// canonical path -> path
-		final Map<String, String> added = new HashMap<>();
-		for (final String a : pChanges.getAdded()) {
-			added.put(Paths.get(a).toFile().getCanonicalPath(), a);
-		}
-		// canonical path -> path
-		final Map<String, String> removed = new HashMap<>();
+	/**
+	 * Maps an added and a removed path to a modified path if both refer to
+	 * the same file. Paths are compared lexically (see
+	 * {@link #normalize(String)}), i.e., without accessing the file system.
+	 */
+	private void mapChanges(final Changes pChanges) {
+		// normalized path -> path
+		final Map<Path, String> removed = new HashMap<>();
 		for (final String r : pChanges.getRemoved()) {
-			removed.put(Paths.get(r).toFile().getCanonicalPath(), r);
-		}
-		// add (path) -> remove (path)
-		final Map<String, String> addRemoveMatches = new HashMap<>();
-		added.forEach((ak, av) -> {
-			final String rv = removed.get(ak);
-			if (rv != null) {
-				addRemoveMatches.put(av, rv);
+			removed.put(normalize(r), r);
+		}
+		final Set<String> matchedAdds = new HashSet<>();
+		final Set<String> matchedRemoves = new HashSet<>();
+		for (final String a : pChanges.getAdded()) {
+			final String r = removed.get(normalize(a));
+			if (r != null && matchedAdds.add(a)) {
+				matchedRemoves.add(r);
+				pChanges.getModified().add(a);
 			}
-		});
-		addRemoveMatches.forEach((a, r) -> {
-			pChanges.getAdded().remove(a);
-			pChanges.getRemoved().remove(r);
-			pChanges.getModified().add(a);
-		});
+		}
+		if (!matchedAdds.isEmpty()) {
+			pChanges.getAdded().removeIf(matchedAdds::contains);
+			pChanges.getRemoved().removeIf(matchedRemoves::contains);
+		}
+	}
+
+	/**
+	 * Returns the absolute and normalized (see {@link Path#normalize()})
+	 * version of {@code pPath}. Unlike {@link File#getCanonicalPath()}, this
+	 * method does not access the file system.
+	 */
+	private Path normalize(final String pPath) {
+		return Paths.get(pPath).toAbsolutePath().normalize();
 	}
 
 	private VCSFile createFile(final Path pPath, final Revision pRevision) {
@@ -338,13 +690,107 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 		return getModelFactory().createVCSFile(relPath, pRevision, this);
 	}
 
+	/**
+	 * Lists the files of the currently checked out revision (see
+	 * {@link #listFilesInOutput()}) and creates a {@link Revision} of them.
+	 */
 	private Revision createRevision() throws IOException {
+		listFilesOfRevision();
+		return createRevision(Collections.emptyMap());
+	}
+
+	/**
+	 * Sets {@link #filesOfRevision} to the files of the currently checked out
+	 * revision (see {@link #listFilesInOutput()}).
+	 */
+	private void listFilesOfRevision() throws IOException {
 		final Path output = getOutput();
-		final List<String> files = listFilesInOutput().stream()
+		filesOfRevision = listFilesInOutput().stream()
 				.map(output::relativize)
 				.map(Path::toString)
-				.collect(Collectors.toList());
-		return getModelFactory().createRevision(revision, files, this);
+				.collect(Collectors.toCollection(TreeSet::new));
+	}
+
+	/**
+	 * Creates a {@link Revision} of {@link #filesOfRevision}. The
+	 * {@link VCSFile}s of the revision are created on demand, that is, on the
+	 * first call of {@link Revision#getFiles()}, and are sorted by their
+	 * relative path. Files that are already available (for example, the files
+	 * of the file changes) are passed with {@code pFiles} (relative path ->
+	 * file) and reused.
+	 */
+	private Revision createRevision(final Map<String, VCSFile> pFiles) {
+		return getModelFactory().createRevision(revision,
+				new ArrayList<>(filesOfRevision),
+				(path, __) -> pFiles.get(path), this);
+	}
+
+	/**
+	 * Updates {@link #filesOfRevision} with the given changes such that the
+	 * output directory does not have to be listed again. A path is added only
+	 * if {@link #isListedInOutput(Path)} returns {@code true}. Paths that are
+	 * not located in {@link #getOutput()} are ignored.
+	 */
+	private void applyChanges(final Changes pChanges) {
+		final Path output = getOutput();
+		final Function<String, Optional<Path>> toPath = p -> {
+			final Path path = Paths.get(p);
+			return path.isAbsolute() && path.startsWith(output)
+					? Optional.of(path)
+					: Optional.empty();
+		};
+		Stream.concat(
+				pChanges.getRemoved().stream(),
+				pChanges.getRelocated().stream().map(Map.Entry::getKey))
+				.map(toPath)
+				.forEach(r -> r.ifPresent(p -> filesOfRevision.remove(
+						output.relativize(p).toString())));
+		Stream.concat(Stream.concat(
+				pChanges.getAdded().stream(),
+				pChanges.getModified().stream()),
+				pChanges.getRelocated().stream().map(Map.Entry::getValue))
+				.map(toPath)
+				.forEach(r -> r.ifPresent(p -> {
+					final String relPath = output.relativize(p).toString();
+					if (isListedInOutput(p)) {
+						filesOfRevision.add(relPath);
+					} else {
+						filesOfRevision.remove(relPath);
+					}
+				}));
+	}
+
+	/**
+	 * Returns whether {@link #listFilesInOutput()} lists {@code pPath}, using
+	 * the same criteria as the default implementation of
+	 * {@link #listFilesInOutput()}. That is, {@code pPath} must not be a
+	 * directory and neither {@code pPath} nor any of its parents (up to
+	 * {@link #getOutput()}) must be excluded by {@link #createVCSFileFilter()}.
+	 * Without a working copy (see {@link #hasWorkingCopy()}), the changes
+	 * created by {@link #createChangesImpl(String, String)} are expected to
+	 * contain listed files only.
+	 */
+	private boolean isListedInOutput(final Path pPath) {
+		if (!hasWorkingCopy()) {
+			return true;
+		}
+		if (!Files.exists(pPath, LinkOption.NOFOLLOW_LINKS) ||
+				Files.isDirectory(pPath, LinkOption.NOFOLLOW_LINKS)) {
+			return false;
+		}
+		final FilenameFilter filter = createVCSFileFilter();
+		if (filter == null) {
+			return true;
+		}
+		final Path output = getOutput();
+		for (Path p = pPath; p != null && !p.equals(output);
+				p = p.getParent()) {
+			if (!filter.accept(p.getParent().toFile(),
+					p.getFileName().toString())) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private void init() throws IOException {
@@ -353,26 +799,40 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 			if (revisions == null) {
 				revisions = listRevisionsImpl();
 				IllegalReturnException.noNullElements(revisions);
+				seedRevision = getSeedRevision().orElse(null);
+				ordinal = getFirstOrdinal();
 			}
 			initialized = true;
 		}
 	}
 
-	private RevisionRange createRevisionRange(final Changes pChanges)
-			throws IOException {
-		final Revision rev = createRevision();
-		final Map<Path, VCSFile> path2File = new HashMap<>();
-		rev.getFiles().forEach(f -> path2File.put(f.toPath(), f));
+	private RevisionRange createRevisionRange(final Changes pChanges,
+			final Prepared pPrepared) throws IOException {
+		if (revisionIdx > 0 || seedRevision != null) {
+			if (requiresListing()) {
+				listFilesOfRevision();
+			} else {
+				applyChanges(pChanges);
+			}
+		}
+		// relative path -> file
+		final Map<String, VCSFile> path2File = new HashMap<>();
+		final Revision rev = createRevision(path2File);
+		final Function<Path, VCSFile> toFile = p -> {
+			final VCSFile file = createFile(p, rev);
+			final VCSFile known =
+					path2File.putIfAbsent(file.getRelativePath(), file);
+			return known != null ? known : file;
+		};
 		final List<FileChange> fileChanges = new ArrayList<>();
 		pChanges.getAdded().stream()
 				.map(Paths::get)
 				.map(a -> getModelFactory().createFileChange(
 						null,
-						path2File.computeIfAbsent(a, p ->
-								createFile(p, rev)),
+						toFile.apply(a),
 						this))
 				.forEach(fileChanges::add);
-		if (revisionIdx > 0) {
+		if (revisionIdx > 0 || seedRevision != null) {
 			Validate.validateState(currentRevision != null);
 			pChanges.getRemoved().stream()
 					.map(Paths::get)
@@ -385,8 +845,7 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 					.map(Paths::get)
 					.map(m -> getModelFactory().createFileChange(
 							createFile(m, currentRevision),
-							path2File.computeIfAbsent(m, p ->
-									createFile(p, rev)),
+							toFile.apply(m),
 							this))
 					.forEach(fileChanges::add);
 			pChanges.getRelocated().stream()
@@ -398,14 +857,22 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 						final Path nev = e.getValue();
 						return getModelFactory().createFileChange(
 								createFile(old, currentRevision),
-								path2File.computeIfAbsent(nev, p ->
-										createFile(p, rev)),
+								toFile.apply(nev),
 								this);
 					})
 					.forEach(fileChanges::add);
 		}
 
-		final Commit commit = createCommit(fileChanges);
+		final Commit commit = pPrepared != null
+				? getModelFactory().createCommit(
+						revision, pPrepared.commit.getAuthor(),
+						pPrepared.commit.getMessage(),
+						pPrepared.commit.getDateTime(),
+						pPrepared.commit.getParentIds(), fileChanges,
+						getResult(pPrepared.issues,
+								"Interrupted while waiting for issues"),
+						this)
+				: createCommit(fileChanges);
 		return getModelFactory().createRevisionRange(ordinal++, rev,
 				currentRevision, Collections.singletonList(commit), this);
 	}
@@ -423,12 +890,252 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 				: commit;
 	}
 
+	/**
+	 * Submits the revisions following {@link #revisionIdx} (up to the
+	 * configured look-ahead) to the worker threads, if pipelining is enabled.
+	 * If this engine does not support concurrent reads, commits are created
+	 * by the calling thread and only issues are extracted by the workers.
+	 * The referenced issues of a commit are fetched asynchronously (see
+	 * {@link ITEngine#getIssuesForAsync(Commit, Executor)}).
+	 */
+	private synchronized void prepareAhead() throws IOException {
+		if (pipelineOptions == null) {
+			return;
+		}
+		final int end = Math.min(revisions.size(),
+				revisionIdx + 1 + pipelineOptions.getLookAhead());
+		for (int i = revisionIdx + 1; i < end; i++) {
+			if (prepared.containsKey(i)) {
+				continue;
+			}
+			final int idx = i;
+			final String rev = revisions.get(idx);
+			final String prev = idx > 0 ? revisions.get(idx - 1) : null;
+			final ITEngine it = itEngine;
+			final ExecutorService executor = pipelineExecutor;
+			final boolean concurrent = supportsConcurrentReads();
+			final Commit commit = concurrent ? null : createCommitImpl(
+					rev, Collections.emptyList(), Collections.emptyList());
+			prepared.put(idx, executor.submit(() -> {
+				final Prepared p = new Prepared();
+				if (concurrent) {
+					p.changes = prev != null
+							? createChangesImpl(prev, rev)
+							: null;
+					p.commit = createCommitImpl(rev,
+							Collections.emptyList(), Collections.emptyList());
+				} else {
+					p.commit = commit;
+				}
+				p.issues = it != null
+						? it.getIssuesForAsync(p.commit, executor)
+						: CompletableFuture.completedFuture(
+								Collections.emptyList());
+				return p;
+			}));
+		}
+	}
+
+	/**
+	 * Derives the line information of the given file from the attribution
+	 * stored in {@code pCache}. Returns {@code null} if there is no suitable
+	 * attribution.
+	 */
+	private List<LineInfo> readLineInfo(final VCSFile pFile,
+			final LineInfoCache pCache) throws IOException {
+		final String rev = pFile.getRevision().getId();
+		final String path = pFile.getRelativePath();
+		final List<String> lines = pFile.readLines();
+		LineInfoCache.Attribution[] attributions = pCache.get(rev, path);
+		if (attributions == null) {
+			attributions = carryForward(pFile, lines, pCache);
+			if (attributions == null) {
+				return null;
+			}
+			pCache.put(rev, path, attributions);
+		}
+		if (attributions.length != lines.size()) {
+			return null;
+		}
+		final List<LineInfo> lineInfo = new ArrayList<>(lines.size());
+		for (int i = 0; i < attributions.length; i++) {
+			final LineInfoCache.Attribution a = attributions[i];
+			lineInfo.add(getModelFactory().createLineInfo(a.id, a.author,
+					a.message, a.dateTime, i + 1, lines.get(i), pFile, this));
+		}
+		return lineInfo;
+	}
+
+	/**
+	 * Computes the attribution of the given file (with given lines) from the
+	 * attribution of the previous revision. Returns {@code null} if the
+	 * file does not belong to the currently processed revision, if the
+	 * previous revision is not the only parent of the current one, or if
+	 * there is no attribution of the previous version of the file.
+	 */
+	private LineInfoCache.Attribution[] carryForward(final VCSFile pFile,
+			final List<String> pLines, final LineInfoCache pCache)
+			throws IOException {
+		final RevisionRange range;
+		final Map<String, FileChange> changes;
+		synchronized (this) {
+			range = currentRange;
+			if (range == null || !range.getRevision().getId()
+					.equals(pFile.getRevision().getId())) {
+				return null;
+			}
+			if (currentChanges == null) {
+				currentChanges = new HashMap<>();
+				range.getFileChanges().forEach(fc -> fc.getNewFile()
+						.ifPresent(f -> currentChanges.put(
+								f.getRelativePath(), fc)));
+			}
+			changes = currentChanges;
+		}
+		// Lines inserted by a range spanning several commits (or by a merge)
+		// can not be attributed to a single commit.
+		final Optional<Revision> predecessor = range.getPredecessorRevision();
+		if (!predecessor.isPresent() || range.getCommits().size() != 1) {
+			return null;
+		}
+		final String prev = predecessor.get().getId();
+		final String rev = range.getRevision().getId();
+		final Commit commit = range.getLatestCommit();
+		if (!commit.getParentIds().equals(Collections.singletonList(prev))) {
+			return null;
+		}
+
+		final FileChange change = changes.get(pFile.getRelativePath());
+		if (change == null) { // unchanged
+			return pCache.get(prev, pFile.getRelativePath());
+		}
+		final LineInfoCache.Attribution current =
+				pCache.attributionOf(rev, commit);
+		final LineInfoCache.Attribution[] attributions =
+				new LineInfoCache.Attribution[pLines.size()];
+		final Optional<VCSFile> oldFile = change.getOldFile();
+		if (!oldFile.isPresent()) { // added
+			Arrays.fill(attributions, current);
+			return attributions;
+		} else if (pLines.isEmpty()) {
+			return attributions;
+		}
+		final LineInfoCache.Attribution[] old =
+				pCache.get(prev, oldFile.get().getRelativePath());
+		if (old == null) {
+			return null;
+		}
+
+		// The lines of a diff exclude trailing empty lines. Any other
+		// mismatch (for instance, a '\r' line break) requires a full blame.
+		final LineDiff diff = computeLineDiff(change);
+		final int numOld = diff.getNumOldLines();
+		final int numNew = diff.getNumNewLines();
+		if (old.length < numOld || pLines.size() < numNew ||
+				pLines.subList(numNew, pLines.size()).stream()
+						.anyMatch(l -> !l.isEmpty())) {
+			return null;
+		}
+		int oldIdx = 0;
+		int newIdx = 0;
+		for (int h = 0; h < diff.getNumHunks(); h++) {
+			final int newStart = diff.getNewLine(h) - 1;
+			while (newIdx < newStart) {
+				attributions[newIdx++] = old[oldIdx++];
+			}
+			for (int i = 0; i < diff.getNumInserted(h); i++) {
+				attributions[newIdx++] = current;
+			}
+			oldIdx += diff.getNumDeleted(h);
+		}
+		while (newIdx < numNew) {
+			attributions[newIdx++] = old[oldIdx++];
+		}
+		// Trailing empty lines.
+		while (newIdx < attributions.length) {
+			attributions[newIdx++] = oldIdx < old.length
+					? old[oldIdx++]
+					: current;
+		}
+		return attributions;
+	}
+
+	/**
+	 * Removes and returns the prepared revision with given index. Returns
+	 * {@code null} if there is no such revision.
+	 */
+	private Prepared takePrepared(final int pIdx) throws IOException {
+		final Future<Prepared> future;
+		synchronized (this) {
+			future = prepared.remove(pIdx);
+		}
+		if (future == null) {
+			return null;
+		}
+		return getResult(future,
+				"Interrupted while waiting for prepared revision");
+	}
+
+	/**
+	 * Waits for the result of the given future. Rethrows the exception of a
+	 * failed computation.
+	 */
+	private static <T> T getResult(final Future<T> pFuture,
+			final String pInterruptMessage) throws IOException {
+		try {
+			return pFuture.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(pInterruptMessage);
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Interrupts the worker threads of {@code pExecutor} and waits (up to
+	 * {@link #SHUTDOWN_TIMEOUT_SECONDS}) for them to terminate.
+	 */
+	private void shutdownAndAwait(final ExecutorService pExecutor) {
+		pExecutor.shutdownNow();
+		try {
+			if (!pExecutor.awaitTermination(
+					SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				log.warn("Pipeline workers did not terminate within {} seconds",
+						SHUTDOWN_TIMEOUT_SECONDS);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private synchronized void cancelPrepared() {
+		prepared.values().forEach(f -> f.cancel(false));
+		prepared.clear();
+	}
+
 	private String getPreviousRevision() {
+		if (revisionIdx == 0 && seedRevision != null) {
+			return seedRevision;
+		}
 		Validate.validateState(revisionIdx >= 1,
 				"There is no previous revision available");
 		return revisions.get(revisionIdx - 1);
 	}
 
+	private boolean isKnownRevision(final String pRevision) {
+		return revisions.contains(pRevision) ||
+				(seedRevision != null && seedRevision.equals(pRevision));
+	}
+
 	protected static Date toDate(final LocalDateTime pDateTime) {
 		Validate.notNull(pDateTime);
 		return Date.from(pDateTime.atZone(
@@ -453,10 +1160,170 @@ public abstract class AbstractVSCEngine implements VCSEngine {
 		}
 	}
 
+	/**
+	 * Reads the content id of the given file. If the engine does not provide
+	 * content ids (see {@link #readContentIdImpl(String, String)}), the id is
+	 * computed from the content of the file, which, in this case, is kept
+	 * for subsequent use.
+	 *
+	 * @param file
+	 * 		The file whose content id is read. May be {@code null}.
+	 * @return
+	 * 		The content id of {@code file}.
+	 * @throws IOException
+	 * 		If an error occurred while reading the content of {@code file}.
+	 */
+	private Content readContent(final VCSFile file) throws IOException {
+		final Content content = new Content();
+		if (file == null) {
+			return content;
+		}
+		final Optional<String> id = readContentIdImpl(
+				file.getRelativePath(), file.getRevision().getId());
+		IllegalReturnException.notNull(id);
+		if (id.isPresent()) {
+			content.id = id.get();
+		} else {
+			content.bytes = file.readAllBytes();
+			content.id = hashContent(content.bytes);
+		}
+		return content;
+	}
+
+	/**
+	 * Computes the SHA-1 hash of the given content the same way Git computes
+	 * the id of a blob. Thus, content ids computed with this method are
+	 * compatible with the ids returned by {@code GitEngine}.
+	 *
+	 * @param bytes
+	 * 		The content to hash.
+	 * @return
+	 * 		The hex encoded SHA-1 hash of the given content.
+	 */
+	private static String hashContent(final byte[] bytes) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (final NoSuchAlgorithmException e) {
+			// Every implementation of the Java platform supports SHA-1.
+			throw new IllegalStateException(e);
+		}
+		digest.update(("blob " + bytes.length + "\0")
+				.getBytes(StandardCharsets.US_ASCII));
+		final byte[] hash = digest.digest(bytes);
+		final StringBuilder hex = new StringBuilder(hash.length * 2);
+		for (final byte b : hash) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+			hex.append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
 	/////////////////////////// optional overrides ////////////////////////////
 
 	protected void initImpl() throws IOException {}
 
+	/**
+	 * Returns the revision preceding the first revision to process. If
+	 * present, the first revision range is computed against this revision
+	 * rather than reporting all files as added. Called once, after
+	 * {@link #listRevisionsImpl()}. The default implementation returns an
+	 * empty {@link Optional}.
+	 *
+	 * @return
+	 * 		The revision preceding the first revision to process.
+	 */
+	protected Optional<String> getSeedRevision() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the ordinal of the first revision range. Called once, after
+	 * {@link #listRevisionsImpl()}. The default implementation returns
+	 * {@code 1}.
+	 *
+	 * @return
+	 * 		The ordinal of the first revision range.
+	 */
+	protected int getFirstOrdinal() {
+		return 1;
+	}
+
+	/**
+	 * Returns an id of the content of the file located at {@code path} in
+	 * {@code revision}. Files with equal content must have equal ids, files
+	 * with different content must have different ids. Used to look up diffs
+	 * in the {@link DiffCache} and contents in the {@link BlobStore} without
+	 * reading the content of files. The
+	 * default implementation returns an empty {@link Optional} in which case
+	 * the id is computed by hashing the content of the file.
+	 *
+	 * @param path
+	 * 		The path of the file relative to {@link #getOutput()}.
+	 * @param revision
+	 * 		The revision of the file.
+	 * @return
+	 * 		The content id of the file or an empty {@link Optional} if the
+	 * 		engine does not provide content ids.
+	 * @throws IOException
+	 * 		If an error occurred while reading the content id.
+	 */
+	protected Optional<String> readContentIdImpl(final String path,
+			final String revision) throws IOException {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns whether {@link #createChangesImpl(String, String)},
+	 * {@link #createCommitImpl(String, List, List)},
+	 * {@link #readAllBytesImpl(String, String)}, and
+	 * {@link #readLineInfoImpl(VCSFile)} may be called by several threads
+	 * concurrently and independently of the currently checked out revision.
+	 * Used by the pipelined processing of revisions (see
+	 * {@link PipelineOptions}) and by
+	 * {@link #readLineInfo(Collection, BiConsumer)}. The default
+	 * implementation returns {@code false}.
+	 *
+	 * @return
+	 * 		{@code true} if changes, commits, file contents, and line
+	 * 		information can be created concurrently, {@code false} otherwise.
+	 */
+	protected boolean supportsConcurrentReads() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the files of the currently processed revision are
+	 * physically available at {@link #getOutput()}. If not, the contents of
+	 * all files, including the files of the currently processed revision, are
+	 * read with {@link #readAllBytesImpl(String, String)}. The default
+	 * implementation returns {@code true}.
+	 *
+	 * @return
+	 * 		{@code true} if the files of the currently processed revision are
+	 * 		available at {@link #getOutput()}, {@code false} otherwise.
+	 */
+	protected boolean hasWorkingCopy() {
+		return true;
+	}
+
+	/**
+	 * Returns whether the working copy of the currently checked out revision
+	 * contains files that are not covered by the changes created by
+	 * {@link #createChangesImpl(String, String)} (for example, externals).
+	 * If so, the files of a revision are listed (see
+	 * {@link #listFilesInOutput()}) instead of being derived from the files
+	 * of the previous revision and the changes. The default implementation
+	 * returns {@code false}.
+	 *
+	 * @return
+	 * 		{@code true} if the files of the currently checked out revision
+	 * 		must be listed, {@code false} otherwise.
+	 */
+	protected boolean requiresListing() {
+		return false;
+	}
+
 	/////////////////////////// required overrides ////////////////////////////
 
 	/**
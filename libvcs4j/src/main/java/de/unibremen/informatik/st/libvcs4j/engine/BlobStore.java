@@ -0,0 +1,291 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import de.unibremen.informatik.st.libvcs4j.Validate;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A content-addressed store of file contents (see
+ * {@link AbstractVSCEngine#setBlobStore(BlobStore)}). Contents are keyed by
+ * their content id (see {@link AbstractVSCEngine#readContentIdImpl(String,
+ * String)}) such that files which are unchanged across several revisions
+ * share their bytes, their guessed charset, and whether they are binary.
+ * Bytes are stored on the heap. The total size of all stored contents is
+ * bounded by a byte budget. If the budget is exceeded, the least recently
+ * used contents are evicted and become garbage immediately. As byte arrays
+ * are mutable, {@link #getBytes(String)} returns a copy of a stored content.
+ *
+ * Instances of this class are thread safe.
+ */
+public class BlobStore {
+
+	/**
+	 * The default byte budget (64 MiB).
+	 */
+	public static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+	/**
+	 * The approximate number of bytes an entry occupies on the heap. Counted
+	 * against the budget such that the number of entries is bounded even if
+	 * they do not store any bytes.
+	 */
+	private static final int ENTRY_OVERHEAD = 128;
+
+	/**
+	 * The maximum number of bytes stored by this store.
+	 */
+	private final long budget;
+
+	/**
+	 * The number of bytes currently stored by this store (including
+	 * {@link #ENTRY_OVERHEAD}).
+	 */
+	private long size = 0;
+
+	/**
+	 * Content id -> entry in access order (least recently used first).
+	 */
+	private final LinkedHashMap<String, Entry> entries =
+			new LinkedHashMap<>(16, 0.75f, true);
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	/**
+	 * The data stored for a content id.
+	 */
+	private static class Entry {
+
+		/**
+		 * The content or {@code null} if it has not been stored.
+		 */
+		private byte[] bytes = null;
+
+		/**
+		 * Whether a charset has been guessed (see {@link #charset}).
+		 */
+		private boolean charsetGuessed = false;
+
+		/**
+		 * The guessed charset or {@code null} if it has not been guessed yet
+		 * or could not be guessed (see {@link #charsetGuessed}).
+		 */
+		private Charset charset = null;
+
+		/**
+		 * File name -> whether the content is binary. The name is part of
+		 * the key as binary detection takes the name of a file into account.
+		 */
+		private Map<String, Boolean> binary = null;
+
+		private long size() {
+			return ENTRY_OVERHEAD + (bytes == null ? 0 : bytes.length);
+		}
+	}
+
+	/**
+	 * Creates a new store with {@link #DEFAULT_BUDGET}.
+	 */
+	public BlobStore() {
+		this(DEFAULT_BUDGET);
+	}
+
+	/**
+	 * Creates a new store with given byte budget.
+	 *
+	 * @param pBudget
+	 * 		The maximum number of bytes to store ({@code > 0}).
+	 * @throws IllegalArgumentException
+	 * 		If {@code pBudget <= 0}.
+	 */
+	public BlobStore(final long pBudget) throws IllegalArgumentException {
+		Validate.isTrue(pBudget > 0, "Budget must be positive");
+		budget = pBudget;
+	}
+
+	public long getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Returns the number of bytes currently occupied by this store.
+	 *
+	 * @return
+	 * 		The number of bytes currently occupied by this store.
+	 */
+	public synchronized long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of calls of {@link #getBytes(String)} that returned
+	 * a stored content.
+	 *
+	 * @return
+	 * 		The number of hits.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of calls of {@link #getBytes(String)} that did not
+	 * return a stored content.
+	 *
+	 * @return
+	 * 		The number of misses.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Removes all stored contents and resets the hit and miss counters.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+		hits = 0;
+		misses = 0;
+	}
+
+	/**
+	 * Returns a copy of the content with given id.
+	 *
+	 * @param id
+	 * 		The content id.
+	 * @return
+	 * 		A copy of the content with given id or an empty {@link Optional}
+	 * 		if there is no such content.
+	 * @throws NullPointerException
+	 * 		If {@code id} is {@code null}.
+	 */
+	public synchronized Optional<byte[]> getBytes(final String id)
+			throws NullPointerException {
+		Validate.notNull(id);
+		final Entry entry = entries.get(id);
+		if (entry == null || entry.bytes == null) {
+			misses++;
+			return Optional.empty();
+		}
+		hits++;
+		return Optional.of(entry.bytes.clone());
+	}
+
+	/**
+	 * Stores a copy of the given content. Contents exceeding the budget of
+	 * this store are not stored.
+	 *
+	 * @param id
+	 * 		The content id.
+	 * @param bytes
+	 * 		The content to store.
+	 * @throws NullPointerException
+	 * 		If any of the given arguments is {@code null}.
+	 */
+	public synchronized void putBytes(final String id, final byte[] bytes)
+			throws NullPointerException {
+		Validate.notNull(id);
+		Validate.notNull(bytes);
+		if (ENTRY_OVERHEAD + bytes.length > budget) {
+			return;
+		}
+		final Entry entry = getOrCreate(id);
+		if (entry.bytes != null) {
+			return;
+		}
+		entry.bytes = bytes.clone();
+		size += bytes.length;
+		evict();
+	}
+
+	/**
+	 * Returns the result of guessing the charset of the content with given
+	 * id.
+	 *
+	 * @param id
+	 * 		The content id.
+	 * @return
+	 * 		The stored result of guessing the charset (which itself is an
+	 * 		empty {@link Optional} if the charset could not be guessed) or an
+	 * 		empty {@link Optional} if no result has been stored yet.
+	 */
+	synchronized Optional<Optional<Charset>> findGuessedCharset(
+			final String id) {
+		final Entry entry = entries.get(Validate.notNull(id));
+		return entry == null || !entry.charsetGuessed
+				? Optional.empty()
+				: Optional.of(Optional.ofNullable(entry.charset));
+	}
+
+	synchronized void putCharset(final String id,
+			final Optional<Charset> charset) {
+		Validate.notNull(id);
+		Validate.notNull(charset);
+		final Entry entry = getOrCreate(id);
+		entry.charsetGuessed = true;
+		entry.charset = charset.orElse(null);
+		evict();
+	}
+
+	/**
+	 * Returns whether the content with given id has been classified as
+	 * binary for files with given name.
+	 *
+	 * @param id
+	 * 		The content id.
+	 * @param fileName
+	 * 		The name of the file (without parent directories).
+	 * @return
+	 * 		Whether the content is binary or {@code null} if it has not been
+	 * 		classified yet.
+	 */
+	synchronized Boolean getBinary(final String id, final String fileName) {
+		final Entry entry = entries.get(Validate.notNull(id));
+		return entry == null || entry.binary == null
+				? null
+				: entry.binary.get(fileName);
+	}
+
+	synchronized void putBinary(final String id, final String fileName,
+			final boolean binary) {
+		Validate.notNull(id);
+		Validate.notNull(fileName);
+		final Entry entry = getOrCreate(id);
+		if (entry.binary == null) {
+			entry.binary = new HashMap<>(2);
+		}
+		entry.binary.put(fileName, binary);
+		evict();
+	}
+
+	///////////////////////////// helping methods /////////////////////////////
+
+	private Entry getOrCreate(final String id) {
+		Entry entry = entries.get(id);
+		if (entry == null) {
+			entry = new Entry();
+			entries.put(id, entry);
+			size += ENTRY_OVERHEAD;
+		}
+		return entry;
+	}
+
+	/**
+	 * Evicts the least recently used entries until {@link #size} does not
+	 * exceed {@link #budget}. The most recently used entry is never evicted.
+	 */
+	private void evict() {
+		final Iterator<Entry> iterator = entries.values().iterator();
+		while (size > budget && entries.size() > 1) {
+			size -= iterator.next().size();
+			iterator.remove();
+		}
+	}
+}
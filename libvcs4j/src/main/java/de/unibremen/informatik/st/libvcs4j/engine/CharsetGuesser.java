@@ -0,0 +1,154 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import com.ibm.icu.text.CharsetDetector;
+import com.ibm.icu.text.CharsetMatch;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Guesses the charset of file contents (see
+ * {@link AbstractVSCEngine#guessCharset}).
+ * The detection is tiered from cheap to expensive:
+ *
+ * 1. A byte order mark determines the charset (UTF-8, UTF-16, UTF-32).
+ *
+ * 2. Contents that are valid UTF-8 (which includes pure ASCII) and do not
+ *    contain NUL bytes are UTF-8. The validation stops at the first invalid
+ *    byte, which usually is within the first few kilobytes.
+ *
+ * 3. All other contents are passed to ICU's {@link CharsetDetector}, which
+ *    analyzes at most {@link #ICU_LIMIT} bytes.
+ */
+class CharsetGuesser {
+
+	/**
+	 * The maximum number of bytes passed to ICU.
+	 */
+	static final int ICU_LIMIT = 64 * 1024;
+
+	/**
+	 * Static only class.
+	 */
+	private CharsetGuesser() {
+		// Static only class.
+	}
+
+	/**
+	 * Guesses the charset of the given content.
+	 *
+	 * @param bytes
+	 * 		The content whose charset is guessed.
+	 * @return
+	 * 		The guessed charset or an empty {@link Optional} if the charset
+	 * 		could not be guessed.
+	 */
+	static Optional<Charset> guess(final byte[] bytes) {
+		final Charset bom = byteOrderMark(bytes);
+		if (bom != null) {
+			return Optional.of(bom);
+		}
+		if (isUTF8(bytes)) {
+			return Optional.of(StandardCharsets.UTF_8);
+		}
+		final CharsetDetector detector = new CharsetDetector();
+		detector.setText(bytes.length > ICU_LIMIT
+				? Arrays.copyOf(bytes, ICU_LIMIT)
+				: bytes);
+		final CharsetMatch match = detector.detect();
+		Charset charset;
+		try {
+			charset = Optional.ofNullable(match)
+					.map(m -> Charset.forName(m.getName()))
+					.orElse(null);
+		} catch (final Exception e) {
+			charset = null;
+		}
+		return Optional.ofNullable(charset);
+	}
+
+	///////////////////////////// helping methods /////////////////////////////
+
+	private static Charset byteOrderMark(final byte[] bytes) {
+		// UTF-32 must be checked before UTF-16 (same prefix).
+		if (startsWith(bytes, 0x00, 0x00, 0xFE, 0xFF)) {
+			return Charset.forName("UTF-32BE");
+		} else if (startsWith(bytes, 0xFF, 0xFE, 0x00, 0x00)) {
+			return Charset.forName("UTF-32LE");
+		} else if (startsWith(bytes, 0xEF, 0xBB, 0xBF)) {
+			return StandardCharsets.UTF_8;
+		} else if (startsWith(bytes, 0xFE, 0xFF)) {
+			return StandardCharsets.UTF_16BE;
+		} else if (startsWith(bytes, 0xFF, 0xFE)) {
+			return StandardCharsets.UTF_16LE;
+		}
+		return null;
+	}
+
+	private static boolean startsWith(final byte[] bytes, final int... prefix) {
+		if (bytes.length < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if ((bytes[i] & 0xFF) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the given content is valid UTF-8 without NUL bytes.
+	 * Rejects overlong encodings and surrogates.
+	 */
+	private static boolean isUTF8(final byte[] bytes) {
+		int i = 0;
+		while (i < bytes.length) {
+			final int b = bytes[i] & 0xFF;
+			if (b == 0x00) {
+				return false;
+			} else if (b < 0x80) {
+				i++;
+				continue;
+			}
+			final int length;
+			int min = 0x80;
+			int max = 0xBF;
+			if (b >= 0xC2 && b <= 0xDF) {
+				length = 2;
+			} else if (b >= 0xE0 && b <= 0xEF) {
+				length = 3;
+				if (b == 0xE0) {
+					min = 0xA0; // overlong
+				} else if (b == 0xED) {
+					max = 0x9F; // surrogates
+				}
+			} else if (b >= 0xF0 && b <= 0xF4) {
+				length = 4;
+				if (b == 0xF0) {
+					min = 0x90; // overlong
+				} else if (b == 0xF4) {
+					max = 0x8F; // > U+10FFFF
+				}
+			} else {
+				return false;
+			}
+			if (i + length > bytes.length) {
+				return false;
+			}
+			final int second = bytes[i + 1] & 0xFF;
+			if (second < min || second > max) {
+				return false;
+			}
+			for (int j = 2; j < length; j++) {
+				if ((bytes[i + j] & 0xC0) != 0x80) {
+					return false;
+				}
+			}
+			i += length;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,233 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import de.unibremen.informatik.st.libvcs4j.Validate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A size-bounded cache of {@link LineDiff} instances (see
+ * {@link AbstractVSCEngine#setDiffCache(DiffCache)}). Diffs are keyed by the
+ * content ids of the old and new file. A content id identifies the content
+ * of a file independent of its path and revision (for instance, the id of a
+ * Git blob). Accordingly, the diff of two contents is computed only once,
+ * even if it is requested by several consumers or for different file
+ * changes. A cached diff retains the contents of both files. Hence, the
+ * cache is bounded by the (estimated) number of bytes retained by its diffs
+ * rather than by their number. If the budget is exceeded, the least recently
+ * used diffs are evicted.
+ *
+ * Instances of this class are thread safe.
+ */
+public class DiffCache {
+
+	/**
+	 * The default byte budget (32 MiB).
+	 */
+	public static final long DEFAULT_BUDGET = 32L * 1024 * 1024;
+
+	/**
+	 * The approximate number of bytes a key and its map entry occupy on the
+	 * heap.
+	 */
+	private static final int KEY_OVERHEAD = 128;
+
+	/**
+	 * The maximum number of bytes retained by the cached diffs.
+	 */
+	private final long budget;
+
+	/**
+	 * The number of bytes currently retained by the cached diffs (including
+	 * {@link #KEY_OVERHEAD}).
+	 */
+	private long retained = 0;
+
+	/**
+	 * Key -> diff in access order (least recently used first).
+	 */
+	private final LinkedHashMap<Key, LineDiff> diffs =
+			new LinkedHashMap<>(16, 0.75f, true);
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	/**
+	 * The key of a diff. A content id is {@code null} if the corresponding
+	 * file does not exist.
+	 */
+	private static class Key {
+		private final String oldId;
+		private final String nevId;
+
+		private Key(final String pOldId, final String pNevId) {
+			oldId = pOldId;
+			nevId = pNevId;
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			final Key key = (Key) object;
+			return Objects.equals(oldId, key.oldId)
+					&& Objects.equals(nevId, key.nevId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(oldId, nevId);
+		}
+	}
+
+	/**
+	 * Creates a new cache with {@link #DEFAULT_BUDGET}.
+	 */
+	public DiffCache() {
+		this(DEFAULT_BUDGET);
+	}
+
+	/**
+	 * Creates a new cache with given byte budget.
+	 *
+	 * @param pBudget
+	 * 		The maximum number of bytes retained by the cached diffs
+	 * 		({@code > 0}).
+	 * @throws IllegalArgumentException
+	 * 		If {@code pBudget <= 0}.
+	 */
+	public DiffCache(final long pBudget) throws IllegalArgumentException {
+		Validate.isTrue(pBudget > 0, "Budget must be positive");
+		budget = pBudget;
+	}
+
+	/**
+	 * Returns the cached diff of the given contents and counts a hit or a
+	 * miss.
+	 *
+	 * @param oldId
+	 * 		The content id of the old file or {@code null} if there is no old
+	 * 		file.
+	 * @param nevId
+	 * 		The content id of the new file or {@code null} if there is no new
+	 * 		file.
+	 * @return
+	 * 		The cached diff or an empty {@link Optional} if there is no such
+	 * 		diff.
+	 */
+	public synchronized Optional<LineDiff> get(final String oldId,
+			final String nevId) {
+		final LineDiff diff = diffs.get(new Key(oldId, nevId));
+		if (diff != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return Optional.ofNullable(diff);
+	}
+
+	/**
+	 * Caches the diff of the given contents. Evicts the least recently used
+	 * diffs if the budget of this cache is exceeded. Diffs exceeding the
+	 * budget on their own are not cached.
+	 *
+	 * @param oldId
+	 * 		The content id of the old file or {@code null} if there is no old
+	 * 		file.
+	 * @param nevId
+	 * 		The content id of the new file or {@code null} if there is no new
+	 * 		file.
+	 * @param diff
+	 * 		The diff to cache.
+	 * @throws NullPointerException
+	 * 		If {@code diff} is {@code null}.
+	 */
+	public synchronized void put(final String oldId, final String nevId,
+			final LineDiff diff) throws NullPointerException {
+		Validate.notNull(diff);
+		final long bytes = KEY_OVERHEAD + diff.retainedBytes();
+		if (bytes > budget) {
+			return;
+		}
+		final LineDiff previous = diffs.put(new Key(oldId, nevId), diff);
+		if (previous != null) {
+			retained -= KEY_OVERHEAD + previous.retainedBytes();
+		}
+		retained += bytes;
+		evict();
+	}
+
+	public long getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Returns the (estimated) number of bytes retained by the cached diffs.
+	 *
+	 * @return
+	 * 		The number of bytes retained by the cached diffs.
+	 */
+	public synchronized long getRetainedBytes() {
+		return retained;
+	}
+
+	/**
+	 * Returns the number of cached diffs.
+	 *
+	 * @return
+	 * 		The number of cached diffs.
+	 */
+	public synchronized int size() {
+		return diffs.size();
+	}
+
+	/**
+	 * Returns the number of calls of {@link #get(String, String)} that
+	 * returned a cached diff.
+	 *
+	 * @return
+	 * 		The number of cache hits.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of calls of {@link #get(String, String)} that did
+	 * not return a cached diff.
+	 *
+	 * @return
+	 * 		The number of cache misses.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Removes all cached diffs and resets the hit and miss counters.
+	 */
+	public synchronized void clear() {
+		diffs.clear();
+		retained = 0;
+		hits = 0;
+		misses = 0;
+	}
+
+	///////////////////////////// helping methods /////////////////////////////
+
+	/**
+	 * Evicts the least recently used diffs until {@link #retained} does not
+	 * exceed {@link #budget}.
+	 */
+	private void evict() {
+		final Iterator<LineDiff> iterator = diffs.values().iterator();
+		while (retained > budget) {
+			retained -= KEY_OVERHEAD + iterator.next().retainedBytes();
+			iterator.remove();
+		}
+	}
+}
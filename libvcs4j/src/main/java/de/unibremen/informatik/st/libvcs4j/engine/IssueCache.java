@@ -0,0 +1,579 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import de.unibremen.informatik.st.libvcs4j.ITEngine;
+import de.unibremen.informatik.st.libvcs4j.Issue;
+import de.unibremen.informatik.st.libvcs4j.IssueIdExtractor;
+import de.unibremen.informatik.st.libvcs4j.ItModelFactory;
+import de.unibremen.informatik.st.libvcs4j.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An {@link ITEngine} decorator which stores the issues (including their
+ * comments) fetched by another engine in a local file. The file survives the
+ * lifetime of the decorator, such that re-running an analysis of the same
+ * repository hardly sends any request to the issue tracker. Unknown issue ids
+ * are stored as well. By default, stored issues never expire (see
+ * {@link #setMaxAge(Duration)}). If no engine is given (or if
+ * {@link #setOffline(boolean)} is set), stored issues are replayed without
+ * contacting the issue tracker at all.
+ *
+ * The file is an append-only log of length-prefixed records. Each record
+ * stores an issue id, the time the issue was fetched, and the issue (if
+ * any). Later records of an id supersede earlier ones. A truncated record
+ * (for instance, due to a crash) is discarded when the file is loaded. The
+ * file is compacted by {@link #close()} if it contains many superseded
+ * records.
+ *
+ * Instances of this class are thread safe.
+ */
+public class IssueCache implements ITEngine, Closeable {
+
+	/**
+	 * The logger of this class.
+	 */
+	private static final Logger log =
+			LoggerFactory.getLogger(IssueCache.class);
+
+	/**
+	 * Identifies files created by this class.
+	 */
+	private static final int MAGIC = 0x4C564943;
+
+	/**
+	 * The version of the file format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The engine issues are fetched from. {@code null} if issues are replayed
+	 * only.
+	 */
+	private final ITEngine engine;
+
+	private final String repository;
+
+	private final Path file;
+
+	/**
+	 * Issue id -> stored issue.
+	 */
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	/**
+	 * The channel records are appended to. {@code null} if closed.
+	 */
+	private FileChannel channel;
+
+	/**
+	 * The number of records in {@link #file}.
+	 */
+	private int numRecords = 0;
+
+	private ItModelFactory modelFactory;
+
+	/**
+	 * Overrides {@link ITEngine#parseIssueIds(String)} of {@link #engine} if
+	 * not {@code null}.
+	 */
+	private volatile IssueIdExtractor issueIdExtractor = null;
+
+	private Duration maxAge = null;
+
+	private boolean offline = false;
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	/**
+	 * A stored issue. {@link #issue} is {@code null} if there is no issue
+	 * with the corresponding id.
+	 */
+	private static class Entry {
+		private final long fetchedAt;
+		private final Issue issue;
+
+		private Entry(final long pFetchedAt, final Issue pIssue) {
+			fetchedAt = pFetchedAt;
+			issue = pIssue;
+		}
+	}
+
+	/**
+	 * Creates a cache of the issues fetched by {@code pEngine}. Loads the
+	 * issues stored in {@code pFile}, if the file exists.
+	 *
+	 * @param pEngine
+	 * 		The engine to fetch issues from.
+	 * @param pFile
+	 * 		The file to store issues in.
+	 * @throws NullPointerException
+	 * 		If any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code pFile} stores the issues of another repository.
+	 * @throws IOException
+	 * 		If an error occurred while reading or creating {@code pFile}.
+	 */
+	public IssueCache(final ITEngine pEngine, final Path pFile)
+			throws NullPointerException, IllegalArgumentException,
+			IOException {
+		this(Validate.notNull(pEngine), pEngine.getRepository(), pFile);
+	}
+
+	/**
+	 * Creates a cache which replays the issues stored in {@code pFile}
+	 * without contacting an issue tracker.
+	 *
+	 * @param pRepository
+	 * 		The repository whose issues are stored in {@code pFile}.
+	 * @param pFile
+	 * 		The file storing the issues.
+	 * @throws NullPointerException
+	 * 		If any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code pRepository} is empty or if {@code pFile} stores the
+	 * 		issues of another repository.
+	 * @throws IOException
+	 * 		If an error occurred while reading or creating {@code pFile}.
+	 */
+	public IssueCache(final String pRepository, final Path pFile)
+			throws NullPointerException, IllegalArgumentException,
+			IOException {
+		this(null, pRepository, pFile);
+	}
+
+	private IssueCache(final ITEngine pEngine, final String pRepository,
+			final Path pFile) throws NullPointerException,
+			IllegalArgumentException, IOException {
+		engine = pEngine;
+		repository = Validate.notEmpty(pRepository);
+		file = Validate.notNull(pFile).toAbsolutePath();
+		modelFactory = engine != null
+				? engine.getModelFactory()
+				: new ItModelFactory() {};
+		open();
+	}
+
+	/**
+	 * Sets the duration after which a stored issue is fetched again. Pass
+	 * {@code null} (default) to never fetch a stored issue again, or
+	 * {@link Duration#ZERO} to always fetch stored issues again (stored
+	 * issues are still available in offline mode).
+	 *
+	 * @param pMaxAge
+	 * 		The duration after which a stored issue is fetched again.
+	 * @throws IllegalArgumentException
+	 * 		If {@code pMaxAge} is negative.
+	 */
+	public synchronized void setMaxAge(final Duration pMaxAge)
+			throws IllegalArgumentException {
+		Validate.isTrue(pMaxAge == null || !pMaxAge.isNegative(),
+				"Max age must not be negative");
+		maxAge = pMaxAge;
+	}
+
+	public synchronized Optional<Duration> getMaxAge() {
+		return Optional.ofNullable(maxAge);
+	}
+
+	/**
+	 * Enables or disables the offline mode. In offline mode, only stored
+	 * issues are returned (regardless of their age) and the issue tracker is
+	 * never contacted. A cache without engine is always offline.
+	 *
+	 * @param pOffline
+	 * 		{@code true} to enable the offline mode, {@code false} to
+	 * 		disable it.
+	 */
+	public synchronized void setOffline(final boolean pOffline) {
+		offline = pOffline;
+	}
+
+	public synchronized boolean isOffline() {
+		return offline || engine == null;
+	}
+
+	/**
+	 * Returns the engine issues are fetched from.
+	 *
+	 * @return
+	 * 		The engine issues are fetched from or an empty {@link Optional} if
+	 * 		this cache replays stored issues only.
+	 */
+	public Optional<ITEngine> getEngine() {
+		return Optional.ofNullable(engine);
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	@Override
+	public String getRepository() {
+		return repository;
+	}
+
+	/**
+	 * Returns the stored issue with the given id. Fetches and stores the
+	 * issue if it is not stored yet or if it is expired (see
+	 * {@link #setMaxAge(Duration)}), unless this cache is offline.
+	 */
+	@Override
+	public Optional<Issue> getIssueById(final String pId) throws IOException {
+		if (pId == null) {
+			return Optional.empty();
+		}
+		synchronized (this) {
+			final Entry entry = entries.get(pId);
+			if (entry != null && (isOffline() || !isExpired(entry))) {
+				hits++;
+				return Optional.ofNullable(entry.issue);
+			}
+			misses++;
+			if (isOffline()) {
+				return Optional.empty();
+			}
+		}
+		// Do not block other threads while waiting for the issue tracker.
+		final long fetchedAt = System.currentTimeMillis();
+		final Optional<Issue> issue = engine.getIssueById(pId);
+		final Issue copy = issue.map(this::copy).orElse(null);
+		put(pId, new Entry(fetchedAt, copy));
+		return Optional.ofNullable(copy);
+	}
+
+	@Override
+	public synchronized ItModelFactory getModelFactory() {
+		return modelFactory;
+	}
+
+	@Override
+	public synchronized void setModelFactory(final ItModelFactory pFactory)
+			throws NullPointerException {
+		modelFactory = Validate.notNull(pFactory);
+		if (engine != null) {
+			engine.setModelFactory(pFactory);
+		}
+	}
+
+	/**
+	 * Parses the given text using the configured extractor (see
+	 * {@link #setIssueIdExtractor(IssueIdExtractor)}). If no extractor is
+	 * configured, the text is parsed by the engine of this cache (or, if
+	 * there is no engine, by {@link IssueIdExtractor#DEFAULT}).
+	 */
+	@Override
+	public List<String> parseIssueIds(final String pText) {
+		final IssueIdExtractor extractor = issueIdExtractor;
+		if (extractor != null) {
+			return extractor.extract(pText);
+		}
+		return engine != null
+				? engine.parseIssueIds(pText)
+				: ITEngine.super.parseIssueIds(pText);
+	}
+
+	/**
+	 * Sets the extractor used to parse issue ids. Pass {@code null}
+	 * (default) to use the engine of this cache.
+	 *
+	 * @param pExtractor
+	 * 		The extractor to use or {@code null}.
+	 */
+	public void setIssueIdExtractor(final IssueIdExtractor pExtractor) {
+		issueIdExtractor = pExtractor;
+	}
+
+	public Optional<IssueIdExtractor> getIssueIdExtractor() {
+		return Optional.ofNullable(issueIdExtractor);
+	}
+
+	/**
+	 * Returns the number of stored issue ids (including the ids of
+	 * non-existing issues).
+	 *
+	 * @return
+	 * 		The number of stored issue ids.
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the number of calls of {@link #getIssueById(String)} that
+	 * returned a stored issue.
+	 *
+	 * @return
+	 * 		The number of cache hits.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of calls of {@link #getIssueById(String)} that did
+	 * not find a (non-expired) stored issue.
+	 *
+	 * @return
+	 * 		The number of cache misses.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Compacts the file of this cache, if it contains many superseded
+	 * records, and closes it. Subsequent calls of
+	 * {@link #getIssueById(String)} do not store fetched issues anymore.
+	 *
+	 * @throws IOException
+	 * 		If an error occurred while compacting or closing the file.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel == null) {
+			return;
+		}
+		try {
+			if (numRecords > 2 * entries.size()) {
+				compact();
+			}
+		} finally {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	///////////////////////////// helping methods /////////////////////////////
+
+	private boolean isExpired(final Entry pEntry) {
+		return maxAge != null && System.currentTimeMillis() -
+				pEntry.fetchedAt >= maxAge.toMillis();
+	}
+
+	private Issue copy(final Issue pIssue) {
+		final List<Issue.Comment> comments = new ArrayList<>();
+		pIssue.getComments().forEach(c -> comments.add(getModelFactory()
+				.createComment(c.getAuthor(), c.getMessage(),
+						c.getDateTime(), this)));
+		return getModelFactory().createIssue(pIssue.getId(),
+				pIssue.getAuthor(), pIssue.getTitle(), pIssue.getDateTime(),
+				comments, this);
+	}
+
+	private synchronized void put(final String pId, final Entry pEntry)
+			throws IOException {
+		entries.put(pId, pEntry);
+		if (channel != null) {
+			write(channel, pId, pEntry);
+			numRecords++;
+		}
+	}
+
+	/**
+	 * Loads the records of {@link #file} (if it exists) and opens
+	 * {@link #channel} for appending records.
+	 */
+	private void open() throws IOException {
+		long validLength = 0;
+		if (Files.isRegularFile(file)) {
+			try (InputStream is = Files.newInputStream(file);
+					DataInputStream in = new DataInputStream(
+							new BufferedInputStream(is))) {
+				validLength = load(in);
+			}
+		}
+		channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE);
+		try {
+			if (validLength == 0) {
+				channel.truncate(0);
+				writeHeader(channel);
+			} else {
+				channel.truncate(validLength);
+				channel.position(validLength);
+			}
+		} catch (final IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Reads the header and the records of the given stream. Returns the
+	 * number of valid bytes, or 0 if the stream has an unknown format.
+	 */
+	private long load(final DataInputStream pIn) throws IOException {
+		final long headerLength;
+		try {
+			if (pIn.readInt() != MAGIC || pIn.readInt() != VERSION) {
+				log.warn("Discarding '{}' (unknown format)", file);
+				return 0;
+			}
+			final byte[] repo = readBytes(pIn);
+			Validate.isEqualTo(new String(repo, StandardCharsets.UTF_8),
+					repository, "'%s' stores issues of another repository",
+					file);
+			headerLength = 12 + repo.length;
+		} catch (final EOFException e) {
+			return 0;
+		}
+		long validLength = headerLength;
+		while (true) {
+			final byte[] record;
+			try {
+				record = readBytes(pIn);
+			} catch (final EOFException e) {
+				break;
+			}
+			read(new DataInputStream(new ByteArrayInputStream(record)));
+			validLength += 4 + record.length;
+		}
+		return validLength;
+	}
+
+	private void read(final DataInputStream pIn) throws IOException {
+		final String key = readString(pIn);
+		final long fetchedAt = pIn.readLong();
+		Issue issue = null;
+		if (pIn.readBoolean()) {
+			final String id = readString(pIn);
+			final String author = readString(pIn);
+			final String title = readString(pIn);
+			final LocalDateTime dateTime =
+					LocalDateTime.parse(readString(pIn));
+			final int numComments = pIn.readInt();
+			final List<Issue.Comment> comments =
+					new ArrayList<>(numComments);
+			for (int i = 0; i < numComments; i++) {
+				comments.add(modelFactory.createComment(readString(pIn),
+						readString(pIn), LocalDateTime.parse(readString(pIn)),
+						this));
+			}
+			issue = modelFactory.createIssue(id, author, title, dateTime,
+					comments, this);
+		}
+		entries.put(key, new Entry(fetchedAt, issue));
+		numRecords++;
+	}
+
+	private void writeHeader(final FileChannel pChannel) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		writeString(out, repository);
+		out.flush();
+		writeFully(pChannel, bytes.toByteArray());
+	}
+
+	private void write(final FileChannel pChannel, final String pId,
+			final Entry pEntry) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0); // length, see below
+		writeString(out, pId);
+		out.writeLong(pEntry.fetchedAt);
+		final Issue issue = pEntry.issue;
+		out.writeBoolean(issue != null);
+		if (issue != null) {
+			writeString(out, issue.getId());
+			writeString(out, issue.getAuthor());
+			writeString(out, issue.getTitle());
+			writeString(out, issue.getDateTime().toString());
+			out.writeInt(issue.getComments().size());
+			for (final Issue.Comment comment : issue.getComments()) {
+				writeString(out, comment.getAuthor());
+				writeString(out, comment.getMessage());
+				writeString(out, comment.getDateTime().toString());
+			}
+		}
+		out.flush();
+		final byte[] record = bytes.toByteArray();
+		ByteBuffer.wrap(record).putInt(0, record.length - 4);
+		// A single write such that a crash truncates the last record only.
+		writeFully(pChannel, record);
+	}
+
+	/**
+	 * Rewrites {@link #file} such that it contains a single record per id.
+	 */
+	private void compact() throws IOException {
+		final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+		try (FileChannel out = FileChannel.open(tmp,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeHeader(out);
+			for (final Map.Entry<String, Entry> e : entries.entrySet()) {
+				write(out, e.getKey(), e.getValue());
+			}
+		}
+		channel.close();
+		Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+		numRecords = entries.size();
+		channel = FileChannel.open(file, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+	}
+
+	private static void writeFully(final FileChannel pChannel,
+			final byte[] pBytes) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.wrap(pBytes);
+		while (buffer.hasRemaining()) {
+			pChannel.write(buffer);
+		}
+	}
+
+	/**
+	 * Unlike {@link DataOutputStream#writeUTF(String)}, supports strings of
+	 * arbitrary length.
+	 */
+	private static void writeString(final OutputStream pOut,
+			final String pString) throws IOException {
+		final byte[] bytes = pString.getBytes(StandardCharsets.UTF_8);
+		new DataOutputStream(pOut).writeInt(bytes.length);
+		pOut.write(bytes);
+	}
+
+	private static String readString(final DataInputStream pIn)
+			throws IOException {
+		return new String(readBytes(pIn), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] readBytes(final DataInputStream pIn)
+			throws IOException {
+		final int length = pIn.readInt();
+		if (length < 0) {
+			throw new EOFException("Invalid length: " + length);
+		}
+		final byte[] bytes = new byte[length];
+		pIn.readFully(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,614 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import bmsi.util.Diff;
+import de.unibremen.informatik.st.libvcs4j.BinaryFileException;
+import de.unibremen.informatik.st.libvcs4j.FileChange;
+import de.unibremen.informatik.st.libvcs4j.LineChange;
+import de.unibremen.informatik.st.libvcs4j.VCSEngine;
+import de.unibremen.informatik.st.libvcs4j.VCSFile;
+import de.unibremen.informatik.st.libvcs4j.Validate;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The line based diff of two files. Lines are separated by {@code \n} or
+ * {@code \r\n} (just like {@code String#split("\\r?\\n")}) and compared by
+ * their bytes. That is, lines are neither decoded nor copied unless their
+ * content is requested. The differences are computed with {@link Diff}
+ * (linear space variant of Myers' algorithm) and stored as a compact list of
+ * hunks. Each hunk consists of a sequence of deleted lines and a sequence of
+ * inserted lines. {@link LineChange} objects are created on demand (see
+ * {@link #toLineChanges(VCSFile, VCSFile, VCSEngine)}).
+ *
+ * Instances of this class are immutable.
+ */
+public class LineDiff {
+
+	/**
+	 * Number of ints used to store a hunk in {@link #hunks}.
+	 */
+	private static final int HUNK_SIZE = 4;
+
+	/**
+	 * The lines of the old file.
+	 */
+	private final Lines old;
+
+	/**
+	 * The lines of the new file.
+	 */
+	private final Lines nev;
+
+	/**
+	 * The hunks of this diff. The hunk at index {@code i} is stored as
+	 * {@code [first deleted line, number of deleted lines, first inserted
+	 * line, number of inserted lines]} (origin 0) starting at
+	 * {@code i * HUNK_SIZE}.
+	 */
+	private final int[] hunks;
+
+	/**
+	 * The number of line changes preceding each hunk. The last element is the
+	 * total number of line changes.
+	 */
+	private final int[] offsets;
+
+	private LineDiff(final Lines pOld, final Lines pNev) {
+		old = pOld;
+		nev = pNev;
+
+		final int[] oldEquivs = new int[old.size()];
+		final int[] nevEquivs = new int[nev.size()];
+		Lines.classify(old, oldEquivs, nev, nevEquivs);
+
+		int numHunks = 0;
+		int[] tmp = new int[HUNK_SIZE * 8];
+		Diff.change change = new Diff(oldEquivs, nevEquivs).diff_2(false);
+		while (change != null) {
+			if (tmp.length < (numHunks + 1) * HUNK_SIZE) {
+				tmp = Arrays.copyOf(tmp, tmp.length * 2);
+			}
+			final int idx = numHunks * HUNK_SIZE;
+			tmp[idx] = change.line0;
+			tmp[idx + 1] = change.deleted;
+			tmp[idx + 2] = change.line1;
+			tmp[idx + 3] = change.inserted;
+			numHunks++;
+			change = change.link;
+		}
+		hunks = Arrays.copyOf(tmp, numHunks * HUNK_SIZE);
+		offsets = new int[numHunks + 1];
+		for (int i = 0; i < numHunks; i++) {
+			offsets[i + 1] = offsets[i] + getNumDeleted(i) + getNumInserted(i);
+		}
+	}
+
+	/**
+	 * Computes the diff of the given contents.
+	 *
+	 * @param oldBytes
+	 * 		The content of the old file. {@code null} is treated as an empty
+	 * 		file.
+	 * @param oldCharset
+	 * 		The charset of the old file. Used to decode lines on demand.
+	 * @param nevBytes
+	 * 		The content of the new file. {@code null} is treated as an empty
+	 * 		file.
+	 * @param nevCharset
+	 * 		The charset of the new file. Used to decode lines on demand.
+	 * @return
+	 * 		The diff of the given contents.
+	 * @throws NullPointerException
+	 * 		If any of the given charsets is {@code null}.
+	 */
+	public static LineDiff compute(final byte[] oldBytes,
+			final Charset oldCharset, final byte[] nevBytes,
+			final Charset nevCharset) throws NullPointerException {
+		return new LineDiff(
+				Lines.of(oldBytes, Validate.notNull(oldCharset)),
+				Lines.of(nevBytes, Validate.notNull(nevCharset)));
+	}
+
+	/**
+	 * Computes the diff of the given files. The charset of a file is guessed
+	 * with {@link VCSFile#guessCharset()}. If the charset can not be guessed,
+	 * {@link Charset#defaultCharset()} is used as fallback (see
+	 * {@link VCSFile#readeContent()}).
+	 *
+	 * @param oldFile
+	 * 		The old file. {@code null} is treated as an empty file.
+	 * @param nevFile
+	 * 		The new file. {@code null} is treated as an empty file.
+	 * @return
+	 * 		The diff of the given files.
+	 * @throws BinaryFileException
+	 * 		If any of the given files is binary.
+	 * @throws IOException
+	 * 		If an error occurred while reading the content of a file.
+	 */
+	public static LineDiff compute(final VCSFile oldFile,
+			final VCSFile nevFile) throws IOException {
+		return compute(oldFile, null, nevFile, null);
+	}
+
+	/**
+	 * Computes the diff of the given files, reusing contents that have been
+	 * read already.
+	 *
+	 * @param oldFile
+	 * 		The old file. {@code null} is treated as an empty file.
+	 * @param oldBytes
+	 * 		The content of {@code oldFile} or {@code null} if it has not been
+	 * 		read yet.
+	 * @param nevFile
+	 * 		The new file. {@code null} is treated as an empty file.
+	 * @param nevBytes
+	 * 		The content of {@code nevFile} or {@code null} if it has not been
+	 * 		read yet.
+	 * @return
+	 * 		The diff of the given files.
+	 * @throws BinaryFileException
+	 * 		If any of the given files is binary.
+	 * @throws IOException
+	 * 		If an error occurred while reading the content of a file.
+	 */
+	static LineDiff compute(final VCSFile oldFile, final byte[] oldBytes,
+			final VCSFile nevFile, final byte[] nevBytes) throws IOException {
+		return new LineDiff(Lines.of(oldFile, oldBytes),
+				Lines.of(nevFile, nevBytes));
+	}
+
+	/**
+	 * Returns the number of hunks.
+	 *
+	 * @return
+	 * 		The number of hunks.
+	 */
+	public int getNumHunks() {
+		return offsets.length - 1;
+	}
+
+	/**
+	 * Returns the first deleted line (origin 1) of the given hunk. If the
+	 * hunk does not delete any line, the line (of the old file) after which
+	 * the lines of the hunk are inserted is returned.
+	 *
+	 * @param hunk
+	 * 		The index of the hunk.
+	 * @return
+	 * 		The first deleted line of the given hunk.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such hunk.
+	 */
+	public int getOldLine(final int hunk) throws IndexOutOfBoundsException {
+		checkHunk(hunk);
+		return hunks[hunk * HUNK_SIZE] + 1;
+	}
+
+	/**
+	 * Returns the number of lines deleted by the given hunk.
+	 *
+	 * @param hunk
+	 * 		The index of the hunk.
+	 * @return
+	 * 		The number of lines deleted by the given hunk.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such hunk.
+	 */
+	public int getNumDeleted(final int hunk) throws IndexOutOfBoundsException {
+		checkHunk(hunk);
+		return hunks[hunk * HUNK_SIZE + 1];
+	}
+
+	/**
+	 * Returns the first inserted line (origin 1) of the given hunk. If the
+	 * hunk does not insert any line, the line (of the new file) after which
+	 * the lines of the hunk have been deleted is returned.
+	 *
+	 * @param hunk
+	 * 		The index of the hunk.
+	 * @return
+	 * 		The first inserted line of the given hunk.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such hunk.
+	 */
+	public int getNewLine(final int hunk) throws IndexOutOfBoundsException {
+		checkHunk(hunk);
+		return hunks[hunk * HUNK_SIZE + 2] + 1;
+	}
+
+	/**
+	 * Returns the number of lines inserted by the given hunk.
+	 *
+	 * @param hunk
+	 * 		The index of the hunk.
+	 * @return
+	 * 		The number of lines inserted by the given hunk.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such hunk.
+	 */
+	public int getNumInserted(final int hunk)
+			throws IndexOutOfBoundsException {
+		checkHunk(hunk);
+		return hunks[hunk * HUNK_SIZE + 3];
+	}
+
+	/**
+	 * Returns the total number of changed (deleted and inserted) lines.
+	 *
+	 * @return
+	 * 		The total number of changed lines.
+	 */
+	public int getNumLineChanges() {
+		return offsets[offsets.length - 1];
+	}
+
+	/**
+	 * Returns the number of inserted lines minus the number of deleted lines
+	 * (see {@link FileChange#computeLineDelta()}).
+	 *
+	 * @return
+	 * 		The number of inserted lines minus the number of deleted lines.
+	 */
+	public int getLineDelta() {
+		return nev.size() - old.size();
+	}
+
+	/**
+	 * Returns the number of lines of the old file.
+	 *
+	 * @return
+	 * 		The number of lines of the old file.
+	 */
+	public int getNumOldLines() {
+		return old.size();
+	}
+
+	/**
+	 * Returns the number of lines of the new file.
+	 *
+	 * @return
+	 * 		The number of lines of the new file.
+	 */
+	public int getNumNewLines() {
+		return nev.size();
+	}
+
+	/**
+	 * Decodes and returns the given line (origin 1) of the old file.
+	 *
+	 * @param line
+	 * 		The line to decode.
+	 * @return
+	 * 		The given line of the old file excluding EOL characters.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such line.
+	 */
+	public String readOldLine(final int line)
+			throws IndexOutOfBoundsException {
+		return old.get(line - 1);
+	}
+
+	/**
+	 * Decodes and returns the given line (origin 1) of the new file.
+	 *
+	 * @param line
+	 * 		The line to decode.
+	 * @return
+	 * 		The given line of the new file excluding EOL characters.
+	 * @throws IndexOutOfBoundsException
+	 * 		If there is no such line.
+	 */
+	public String readNewLine(final int line)
+			throws IndexOutOfBoundsException {
+		return nev.get(line - 1);
+	}
+
+	/**
+	 * Returns a view of this diff as a list of {@link LineChange} objects
+	 * (deleted lines of a hunk first, then the inserted lines of a hunk). The
+	 * objects are created with the model factory of {@code engine} whenever
+	 * an element of the returned list is accessed.
+	 *
+	 * @param oldFile
+	 * 		The file referenced by {@link LineChange.Type#DELETE} changes.
+	 * 		May be {@code null} if there are no deleted lines.
+	 * @param nevFile
+	 * 		The file referenced by {@link LineChange.Type#INSERT} changes.
+	 * 		May be {@code null} if there are no inserted lines.
+	 * @param engine
+	 * 		The engine used to create {@link LineChange} objects.
+	 * @return
+	 * 		A view of this diff as a list of {@link LineChange} objects.
+	 * @throws NullPointerException
+	 * 		If {@code engine} is {@code null}.
+	 */
+	public List<LineChange> toLineChanges(final VCSFile oldFile,
+			final VCSFile nevFile, final VCSEngine engine)
+			throws NullPointerException {
+		Validate.notNull(engine);
+		return new LineChangeList(oldFile, nevFile, engine);
+	}
+
+	/**
+	 * Returns the estimated number of bytes retained by this diff, that is,
+	 * the contents and line ranges of both files as well as the hunks.
+	 *
+	 * @return
+	 * 		The estimated number of bytes retained by this diff.
+	 */
+	long retainedBytes() {
+		return old.retainedBytes() + nev.retainedBytes()
+				+ 4L * (hunks.length + offsets.length);
+	}
+
+	private void checkHunk(final int hunk) {
+		if (hunk < 0 || hunk >= getNumHunks()) {
+			throw new IndexOutOfBoundsException(String.format(
+					"Hunk: %d, Size: %d", hunk, getNumHunks()));
+		}
+	}
+
+	/**
+	 * A lazy {@link LineChange} view of the enclosing diff.
+	 */
+	private class LineChangeList extends AbstractList<LineChange>
+			implements RandomAccess {
+
+		private final VCSFile oldFile;
+		private final VCSFile nevFile;
+		private final VCSEngine engine;
+
+		private LineChangeList(final VCSFile pOldFile,
+				final VCSFile pNevFile, final VCSEngine pEngine) {
+			oldFile = pOldFile;
+			nevFile = pNevFile;
+			engine = pEngine;
+		}
+
+		@Override
+		public LineChange get(final int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException(String.format(
+						"Index: %d, Size: %d", index, size()));
+			}
+			// find the last hunk whose offset is <= index
+			int hunk = Arrays.binarySearch(offsets, index);
+			if (hunk < 0) {
+				hunk = -hunk - 2;
+			} else {
+				// skip hunks without changes (should not exist)
+				while (offsets[hunk + 1] == index) {
+					hunk++;
+				}
+			}
+			final int i = index - offsets[hunk];
+			final int deleted = getNumDeleted(hunk);
+			if (i < deleted) {
+				Validate.validateState(oldFile != null, "Missing old file.");
+				final int line = getOldLine(hunk) + i;
+				return engine.getModelFactory().createLineChange(
+						LineChange.Type.DELETE, line, readOldLine(line),
+						oldFile, engine);
+			}
+			Validate.validateState(nevFile != null, "Missing new file.");
+			final int line = getNewLine(hunk) + i - deleted;
+			return engine.getModelFactory().createLineChange(
+					LineChange.Type.INSERT, line, readNewLine(line),
+					nevFile, engine);
+		}
+
+		@Override
+		public int size() {
+			return getNumLineChanges();
+		}
+	}
+
+	/**
+	 * The lines of a file stored as byte ranges.
+	 */
+	private static class Lines {
+
+		private static final Lines EMPTY =
+				new Lines(new byte[0], StandardCharsets.UTF_8, new int[0],
+						new int[0], 0);
+
+		private final byte[] bytes;
+		private final Charset charset;
+
+		/**
+		 * First byte (inclusive) of each line.
+		 */
+		private final int[] starts;
+
+		/**
+		 * Last byte (exclusive, EOL excluded) of each line.
+		 */
+		private final int[] ends;
+
+		private final int size;
+
+		private Lines(final byte[] pBytes, final Charset pCharset,
+				final int[] pStarts, final int[] pEnds, final int pSize) {
+			bytes = pBytes;
+			charset = pCharset;
+			starts = pStarts;
+			ends = pEnds;
+			size = pSize;
+		}
+
+		private static Lines of(final VCSFile file, final byte[] bytes)
+				throws IOException {
+			if (file == null) {
+				return EMPTY;
+			} else if (file.isBinary()) {
+				throw new BinaryFileException(String.format(
+						"'%s' is a binary file", file.getPath()));
+			}
+			final Charset charset = file.guessCharset()
+					.orElse(Charset.defaultCharset());
+			return of(bytes != null ? bytes : file.readAllBytes(), charset);
+		}
+
+		private static Lines of(final byte[] pBytes,
+				final Charset pCharset) {
+			if (pBytes == null) {
+				return EMPTY;
+			}
+			byte[] bytes = pBytes;
+			Charset charset = pCharset;
+			if (!isAsciiCompatible(charset)) {
+				// Line breaks can not be detected on the raw bytes of, for
+				// instance, UTF-16. Converting to UTF-8 preserves equality.
+				bytes = new String(bytes, charset)
+						.getBytes(StandardCharsets.UTF_8);
+				charset = StandardCharsets.UTF_8;
+			}
+
+			int[] starts = new int[64];
+			int[] ends = new int[64];
+			int size = 0;
+			int start = 0;
+			for (int i = 0; i <= bytes.length; i++) {
+				final boolean eof = i == bytes.length;
+				if (!eof && bytes[i] != '\n') {
+					continue;
+				}
+				// If there is no line break at all, the whole content is
+				// a single line (even if it is empty).
+				if (eof && size == 0) {
+					starts[0] = 0;
+					ends[0] = bytes.length;
+					return new Lines(bytes, charset, starts, ends, 1);
+				}
+				int end = i;
+				if (!eof && end > start && bytes[end - 1] == '\r') {
+					end--;
+				}
+				if (size == starts.length) {
+					starts = Arrays.copyOf(starts, size * 2);
+					ends = Arrays.copyOf(ends, size * 2);
+				}
+				starts[size] = start;
+				ends[size] = end;
+				size++;
+				start = i + 1;
+			}
+			// Remove trailing empty lines.
+			while (size > 0 && starts[size - 1] == ends[size - 1]) {
+				size--;
+			}
+			return new Lines(bytes, charset, starts, ends, size);
+		}
+
+		private static boolean isAsciiCompatible(final Charset pCharset) {
+			final String name = pCharset.name();
+			return pCharset.equals(StandardCharsets.UTF_8)
+					|| pCharset.equals(StandardCharsets.US_ASCII)
+					|| name.startsWith("ISO-8859-")
+					|| name.startsWith("windows-125");
+		}
+
+		/**
+		 * Assigns an equivalence class to each line of {@code a} and
+		 * {@code b}. Equal lines have the same class. Classes are numbered
+		 * from 1 in order of their first appearance (lines of {@code a}
+		 * first).
+		 */
+		private static void classify(final Lines a, final int[] aEquivs,
+				final Lines b, final int[] bEquivs) {
+			int capacity = 16;
+			while (capacity < (a.size + b.size) * 2) {
+				capacity <<= 1;
+			}
+			final int mask = capacity - 1;
+			// slot -> class (0 = empty)
+			final int[] table = new int[capacity];
+			// class -> representative (line of `a` if >= 0, line
+			// `-(rep + 1)` of `b` otherwise)
+			final int[] reps = new int[a.size + b.size + 1];
+			final int[] hashes = new int[a.size + b.size + 1];
+			int numClasses = 0;
+
+			for (int side = 0; side < 2; side++) {
+				final Lines lines = side == 0 ? a : b;
+				final int[] equivs = side == 0 ? aEquivs : bEquivs;
+				for (int i = 0; i < lines.size; i++) {
+					final int hash = lines.hash(i);
+					int slot = mix(hash) & mask;
+					while (true) {
+						final int cls = table[slot];
+						if (cls == 0) {
+							numClasses++;
+							table[slot] = numClasses;
+							reps[numClasses] = side == 0 ? i : -(i + 1);
+							hashes[numClasses] = hash;
+							equivs[i] = numClasses;
+							break;
+						}
+						final int rep = reps[cls];
+						if (hashes[cls] == hash && (rep >= 0
+								? lines.sameLine(i, a, rep)
+								: lines.sameLine(i, b, -rep - 1))) {
+							equivs[i] = cls;
+							break;
+						}
+						slot = (slot + 1) & mask;
+					}
+				}
+			}
+		}
+
+		private static int mix(final int hash) {
+			final int h = hash * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+
+		private int hash(final int line) {
+			int hash = 1;
+			for (int i = starts[line]; i < ends[line]; i++) {
+				hash = 31 * hash + bytes[i];
+			}
+			return hash;
+		}
+
+		private boolean sameLine(final int line, final Lines other,
+				final int otherLine) {
+			final int length = ends[line] - starts[line];
+			if (length != other.ends[otherLine] - other.starts[otherLine]) {
+				return false;
+			}
+			final int offset = starts[line];
+			final int otherOffset = other.starts[otherLine];
+			for (int i = 0; i < length; i++) {
+				if (bytes[offset + i] != other.bytes[otherOffset + i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private int size() {
+			return size;
+		}
+
+		private long retainedBytes() {
+			return bytes.length + 4L * (starts.length + ends.length);
+		}
+
+		private String get(final int line) {
+			if (line < 0 || line >= size) {
+				throw new IndexOutOfBoundsException(String.format(
+						"Line: %d, Size: %d", line + 1, size));
+			}
+			return new String(bytes, starts[line], ends[line] - starts[line],
+					charset);
+		}
+	}
+}
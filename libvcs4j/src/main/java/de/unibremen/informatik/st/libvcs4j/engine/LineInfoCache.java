@@ -0,0 +1,247 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import de.unibremen.informatik.st.libvcs4j.Commit;
+import de.unibremen.informatik.st.libvcs4j.LineInfo;
+import de.unibremen.informatik.st.libvcs4j.Validate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the line attribution (commit id, author, message, and date time of
+ * each line) of the files of the most recently processed revisions (see
+ * {@link AbstractVSCEngine#setLineInfoCache(LineInfoCache)}). Enables
+ * {@link AbstractVSCEngine#readLineInfo} to compute the line information of
+ * a file incrementally: The attribution of an unchanged file is carried
+ * forward from the previous revision, and the attribution of a modified file
+ * is derived from the attribution of its old version by applying the line
+ * diff of the file change. Inserted lines are attributed to the commit of
+ * the current revision. A full blame (or annotate) is required only if
+ * there is no previous attribution.
+ *
+ * Instances of this class are thread safe.
+ */
+public class LineInfoCache {
+
+	/**
+	 * The default number of revisions whose attribution is stored.
+	 */
+	public static final int DEFAULT_NUM_REVISIONS = 2;
+
+	/**
+	 * The maximum number of revisions whose attribution is stored.
+	 */
+	private final int numRevisions;
+
+	/**
+	 * Revision -> attribution in insertion order (oldest first).
+	 */
+	private final Map<String, Entry> revisions;
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	/**
+	 * The commit a line is attributed to.
+	 */
+	static class Attribution {
+		final String id;
+		final String author;
+		final String message;
+		final LocalDateTime dateTime;
+
+		private Attribution(final String pId, final String pAuthor,
+				final String pMessage, final LocalDateTime pDateTime) {
+			id = pId;
+			author = pAuthor;
+			message = pMessage;
+			dateTime = pDateTime;
+		}
+	}
+
+	/**
+	 * The attribution of the files of a revision. Attributions are shared
+	 * among the lines of a revision.
+	 */
+	private static class Entry {
+		/* path -> attribution of each line */
+		private final Map<String, Attribution[]> files = new HashMap<>();
+		/* commit id -> attribution */
+		private final Map<String, Attribution> commits = new HashMap<>();
+	}
+
+	/**
+	 * Creates a new cache with {@link #DEFAULT_NUM_REVISIONS}.
+	 */
+	public LineInfoCache() {
+		this(DEFAULT_NUM_REVISIONS);
+	}
+
+	/**
+	 * Creates a new cache storing the attribution of the given number of
+	 * revisions.
+	 *
+	 * @param pNumRevisions
+	 * 		The maximum number of revisions whose attribution is stored
+	 * 		({@code > 0}).
+	 * @throws IllegalArgumentException
+	 * 		If {@code pNumRevisions <= 0}.
+	 */
+	public LineInfoCache(final int pNumRevisions)
+			throws IllegalArgumentException {
+		numRevisions = Validate.isPositive(pNumRevisions,
+				"Number of revisions must be positive");
+		revisions = new LinkedHashMap<String, Entry>() {
+			@Override
+			protected boolean removeEldestEntry(
+					final Map.Entry<String, Entry> eldest) {
+				return size() > numRevisions;
+			}
+		};
+	}
+
+	/**
+	 * Returns the attribution of the file located at {@code path} in
+	 * {@code revision}.
+	 *
+	 * @param revision
+	 * 		The revision of the file.
+	 * @param path
+	 * 		The relative path of the file.
+	 * @return
+	 * 		The attribution of each line of the file or {@code null} if there
+	 * 		is no such attribution.
+	 */
+	synchronized Attribution[] get(final String revision, final String path) {
+		final Entry entry = revisions.get(revision);
+		return entry == null ? null : entry.files.get(path);
+	}
+
+	/**
+	 * Stores the attribution of the file located at {@code path} in
+	 * {@code revision}. Evicts the attribution of the oldest revision if the
+	 * maximum number of revisions is exceeded.
+	 *
+	 * @param revision
+	 * 		The revision of the file.
+	 * @param path
+	 * 		The relative path of the file.
+	 * @param attributions
+	 * 		The attribution of each line of the file.
+	 */
+	synchronized void put(final String revision, final String path,
+			final Attribution[] attributions) {
+		revisions.computeIfAbsent(revision, r -> new Entry())
+				.files.put(path, attributions);
+	}
+
+	/**
+	 * Returns the attribution of the given line information of a file in
+	 * {@code revision}.
+	 *
+	 * @param revision
+	 * 		The revision of the file.
+	 * @param lineInfo
+	 * 		The line information to convert.
+	 * @return
+	 * 		The attribution of each line.
+	 */
+	synchronized Attribution[] attributionsOf(final String revision,
+			final List<LineInfo> lineInfo) {
+		final Entry entry = revisions.computeIfAbsent(revision,
+				r -> new Entry());
+		final Attribution[] attributions = new Attribution[lineInfo.size()];
+		for (int i = 0; i < attributions.length; i++) {
+			final LineInfo li = lineInfo.get(i);
+			attributions[i] = entry.commits.computeIfAbsent(li.getId(),
+					id -> new Attribution(id, li.getAuthor(),
+							li.getMessage(), li.getDateTime()));
+		}
+		return attributions;
+	}
+
+	/**
+	 * Returns the attribution of the lines inserted by {@code commit}.
+	 *
+	 * @param revision
+	 * 		The revision of {@code commit}.
+	 * @param commit
+	 * 		The commit to attribute lines to.
+	 * @return
+	 * 		The attribution of the lines inserted by {@code commit}.
+	 */
+	synchronized Attribution attributionOf(final String revision,
+			final Commit commit) {
+		return revisions.computeIfAbsent(revision, r -> new Entry())
+				.commits.computeIfAbsent(commit.getId(),
+						id -> new Attribution(id, commit.getAuthor(),
+								commit.getMessage(), commit.getDateTime()));
+	}
+
+	/**
+	 * Counts the line information of a file that has been derived from a
+	 * stored attribution.
+	 */
+	synchronized void hit() {
+		hits++;
+	}
+
+	/**
+	 * Counts the line information of a file that had to be computed from
+	 * scratch.
+	 */
+	synchronized void miss() {
+		misses++;
+	}
+
+	public int getNumRevisions() {
+		return numRevisions;
+	}
+
+	/**
+	 * Returns the number of files whose attribution is stored.
+	 *
+	 * @return
+	 * 		The number of files whose attribution is stored.
+	 */
+	public synchronized int size() {
+		return revisions.values().stream()
+				.mapToInt(e -> e.files.size())
+				.sum();
+	}
+
+	/**
+	 * Returns the number of files whose line information has been derived
+	 * from a stored attribution.
+	 *
+	 * @return
+	 * 		The number of cache hits.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of files whose line information had to be computed
+	 * from scratch.
+	 *
+	 * @return
+	 * 		The number of cache misses.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Removes all stored attributions and resets the hit and miss counters.
+	 */
+	public synchronized void clear() {
+		revisions.clear();
+		hits = 0;
+		misses = 0;
+	}
+}
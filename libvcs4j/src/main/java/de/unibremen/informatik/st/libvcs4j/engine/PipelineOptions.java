@@ -0,0 +1,74 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import de.unibremen.informatik.st.libvcs4j.Validate;
+
+/**
+ * Configures the pipelined processing of {@link AbstractVSCEngine} (see
+ * {@link AbstractVSCEngine#setPipelineOptions(PipelineOptions)}). While the
+ * caller processes revision {@code N}, worker threads prepare the revisions
+ * {@code N + 1} to {@code N + lookAhead}. That is, they compute the changes
+ * (if supported by the engine), the commit, and the issues (if an
+ * {@link de.unibremen.informatik.st.libvcs4j.ITEngine} is set) of these
+ * revisions. The order in which revision ranges are returned is not
+ * affected.
+ *
+ * Note: The {@link de.unibremen.informatik.st.libvcs4j.ITEngine} of a
+ * pipelined engine is accessed by several threads concurrently.
+ */
+public class PipelineOptions {
+
+	/**
+	 * The default number of revisions to prepare in advance.
+	 */
+	public static final int DEFAULT_LOOK_AHEAD = 8;
+
+	/**
+	 * The default number of worker threads.
+	 */
+	public static final int DEFAULT_THREADS = 4;
+
+	/**
+	 * Number of revisions to prepare in advance. Bounds the amount of memory
+	 * used for prepared, but not yet consumed revisions.
+	 */
+	private final int lookAhead;
+
+	/**
+	 * Number of worker threads.
+	 */
+	private final int threads;
+
+	/**
+	 * Creates new options with {@link #DEFAULT_LOOK_AHEAD} and
+	 * {@link #DEFAULT_THREADS}.
+	 */
+	public PipelineOptions() {
+		this(DEFAULT_LOOK_AHEAD, DEFAULT_THREADS);
+	}
+
+	/**
+	 * Creates new options.
+	 *
+	 * @param pLookAhead
+	 * 		The number of revisions to prepare in advance ({@code > 0}).
+	 * @param pThreads
+	 * 		The number of worker threads ({@code > 0}).
+	 * @throws IllegalArgumentException
+	 * 		If any of the given arguments is {@code <= 0}.
+	 */
+	public PipelineOptions(final int pLookAhead, final int pThreads)
+			throws IllegalArgumentException {
+		lookAhead = Validate.isPositive(pLookAhead,
+				"Look-ahead must be positive");
+		threads = Validate.isPositive(pThreads,
+				"Number of threads must be positive");
+	}
+
+	public int getLookAhead() {
+		return lookAhead;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+}
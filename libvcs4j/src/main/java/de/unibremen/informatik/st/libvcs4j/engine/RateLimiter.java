@@ -0,0 +1,185 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import de.unibremen.informatik.st.libvcs4j.Validate;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket limiting the rate of requests sent to an issue tracker (see
+ * {@link AbstractITEngine#setRateLimiter(RateLimiter)}). Tokens are refilled
+ * at a fixed rate up to a maximum capacity, which allows for short bursts of
+ * requests. Each request consumes a token. Additionally, the quota reported
+ * by an issue tracker may be passed to {@link #update(int, Instant)}. If the
+ * quota is exhausted, no token is handed out until the quota is reset.
+ *
+ * Instances of this class are thread safe.
+ */
+public class RateLimiter {
+
+	/**
+	 * Number of tokens refilled per second.
+	 */
+	private final double permitsPerSecond;
+
+	/**
+	 * Maximum number of tokens.
+	 */
+	private final int capacity;
+
+	/**
+	 * Number of available tokens.
+	 */
+	private double tokens;
+
+	/**
+	 * The time (see {@link System#nanoTime()}) {@link #tokens} has been
+	 * refilled last.
+	 */
+	private long refilledAt;
+
+	/**
+	 * The time (see {@link System#nanoTime()}) until no token is handed out.
+	 */
+	private long blockedUntil;
+
+	/**
+	 * Creates a new (full) bucket.
+	 *
+	 * @param pPermitsPerSecond
+	 * 		The number of tokens refilled per second ({@code > 0}).
+	 * @param pCapacity
+	 * 		The maximum number of tokens ({@code > 0}).
+	 * @throws IllegalArgumentException
+	 * 		If any of the given arguments is {@code <= 0}.
+	 */
+	public RateLimiter(final double pPermitsPerSecond, final int pCapacity)
+			throws IllegalArgumentException {
+		Validate.isTrue(pPermitsPerSecond > 0,
+				"Permits per second must be positive");
+		permitsPerSecond = pPermitsPerSecond;
+		capacity = Validate.isPositive(pCapacity,
+				"Capacity must be positive");
+		tokens = capacity;
+		refilledAt = System.nanoTime();
+		blockedUntil = refilledAt;
+	}
+
+	/**
+	 * Creates a new bucket permitting {@code pRequests} requests per hour,
+	 * which is how most issue trackers specify their quota.
+	 *
+	 * @param pRequests
+	 * 		The number of requests per hour ({@code > 0}).
+	 * @param pCapacity
+	 * 		The maximum number of tokens ({@code > 0}).
+	 * @return
+	 * 		The created bucket.
+	 * @throws IllegalArgumentException
+	 * 		If any of the given arguments is {@code <= 0}.
+	 */
+	public static RateLimiter perHour(final int pRequests,
+			final int pCapacity) throws IllegalArgumentException {
+		Validate.isPositive(pRequests, "Number of requests must be positive");
+		return new RateLimiter(pRequests / 3600.0, pCapacity);
+	}
+
+	/**
+	 * Takes a token. Blocks until a token is available.
+	 *
+	 * @throws InterruptedIOException
+	 * 		If the calling thread has been interrupted while waiting for a
+	 * 		token.
+	 */
+	public void acquire() throws InterruptedIOException {
+		long wait;
+		while ((wait = tryAcquireOrWait()) > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException(
+						"Interrupted while waiting for rate limit");
+			}
+		}
+	}
+
+	/**
+	 * Takes a token if one is available.
+	 *
+	 * @return
+	 * 		{@code true} if a token has been taken, {@code false} otherwise.
+	 */
+	public boolean tryAcquire() {
+		return tryAcquireOrWait() == 0;
+	}
+
+	/**
+	 * Updates this bucket with the quota reported by an issue tracker. If
+	 * {@code pRemaining} is 0, no token is handed out until
+	 * {@code pReset}. Otherwise, the number of available tokens is limited to
+	 * {@code pRemaining}.
+	 *
+	 * @param pRemaining
+	 * 		The number of remaining requests.
+	 * @param pReset
+	 * 		The time the quota is reset.
+	 * @throws NullPointerException
+	 * 		If {@code pReset} is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If {@code pRemaining < 0}.
+	 */
+	public synchronized void update(final int pRemaining, final Instant pReset)
+			throws NullPointerException, IllegalArgumentException {
+		Validate.notNegative(pRemaining, "Remaining must not be negative");
+		Validate.notNull(pReset);
+		refill();
+		if (pRemaining == 0) {
+			final Duration delay = Duration.between(Instant.now(), pReset);
+			if (!delay.isNegative()) {
+				blockedUntil = Math.max(blockedUntil,
+						System.nanoTime() + delay.toNanos());
+			}
+			tokens = 0;
+		} else {
+			tokens = Math.min(tokens, pRemaining);
+		}
+	}
+
+	public double getPermitsPerSecond() {
+		return permitsPerSecond;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	///////////////////////////// helping methods /////////////////////////////
+
+	/**
+	 * Takes a token and returns 0 if one is available. Otherwise, returns
+	 * the number of nanoseconds to wait until a token is available.
+	 */
+	private synchronized long tryAcquireOrWait() {
+		refill();
+		final long now = System.nanoTime();
+		if (now - blockedUntil < 0) {
+			return blockedUntil - now;
+		}
+		if (tokens >= 1) {
+			tokens -= 1;
+			return 0;
+		}
+		return Math.max(1, (long) Math.ceil(
+				(1 - tokens) / permitsPerSecond * 1e9));
+	}
+
+	private void refill() {
+		final long now = System.nanoTime();
+		tokens = Math.min(capacity,
+				tokens + (now - refilledAt) / 1e9 * permitsPerSecond);
+		refilledAt = now;
+	}
+}
@@ -0,0 +1,249 @@
+package de.unibremen.informatik.st.libvcs4j.git;
+
+import de.unibremen.informatik.st.libvcs4j.Validate;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.util.RawParseUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An append-only index of commits. The attributes of the indexed commits are
+ * stored in parallel arrays such that the {@link RevCommit} instances, which
+ * are created while walking the history of a repository, can be garbage
+ * collected. Authors are deduplicated and all messages share a single buffer.
+ * Indexed commits are accessed by their position (the order in which they
+ * have been added), ids are mapped to positions in constant time.
+ *
+ * Instances of this class are thread safe.
+ */
+class CommitIndex {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private static final byte[] PARENT = Constants.encodeASCII("parent ");
+
+	/**
+	 * Length of a 'parent' header line, including the trailing '\n'.
+	 */
+	private static final int PARENT_LINE_LENGTH =
+			PARENT.length + Constants.OBJECT_ID_STRING_LENGTH + 1;
+
+	/**
+	 * Length of the 'tree' header line, including the trailing '\n'.
+	 */
+	private static final int TREE_LINE_LENGTH =
+			"tree ".length() + Constants.OBJECT_ID_STRING_LENGTH + 1;
+
+	/**
+	 * Id -> position.
+	 */
+	private final Map<ObjectId, Integer> positions = new HashMap<>();
+
+	/**
+	 * Author -> position in {@link #authorNames}.
+	 */
+	private final Map<String, Integer> authorPositions = new HashMap<>();
+
+	private final List<String> authorNames = new ArrayList<>();
+
+	/**
+	 * The messages of all commits. The message of the commit at position
+	 * {@code i} starts at {@code messageOffsets[i]} and ends at
+	 * {@code messageOffsets[i + 1]} (or at the end of this buffer).
+	 */
+	private final StringBuilder messages = new StringBuilder();
+
+	private int size = 0;
+
+	private ObjectId[] ids = new ObjectId[INITIAL_CAPACITY];
+
+	private int[] authors = new int[INITIAL_CAPACITY];
+
+	private int[] messageOffsets = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Author time in milliseconds since the epoch.
+	 */
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+
+	/**
+	 * Author timezone offset in minutes.
+	 */
+	private int[] timeZones = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The parents of the commit at position {@code i} are stored in
+	 * {@link #parents} from {@code parentOffsets[i]} (inclusive) to
+	 * {@code parentOffsets[i + 1]} (exclusive, or {@link #numParents}).
+	 */
+	private int[] parentOffsets = new int[INITIAL_CAPACITY];
+
+	private ObjectId[] parents = new ObjectId[INITIAL_CAPACITY];
+
+	private int numParents = 0;
+
+	/**
+	 * Adds the given commit to this index. The body of {@code commit} must be
+	 * available, that is, it must have been parsed by a {@link
+	 * org.eclipse.jgit.revwalk.RevWalk} retaining bodies (default). Adding a
+	 * commit that has been added already has no effect.
+	 *
+	 * Parent ids are read from the raw commit. Accordingly, they are not
+	 * affected by the parent rewriting of path filtered walks.
+	 *
+	 * @param commit
+	 * 		The commit to add.
+	 * @return
+	 * 		The position of {@code commit}.
+	 * @throws NullPointerException
+	 * 		If {@code commit} is {@code null}.
+	 * @throws IllegalArgumentException
+	 * 		If the body of {@code commit} is not available.
+	 */
+	synchronized int add(final RevCommit commit)
+			throws NullPointerException, IllegalArgumentException {
+		Validate.notNull(commit);
+		final byte[] raw = commit.getRawBuffer();
+		Validate.isTrue(raw != null, "Missing body of commit '%s'",
+				commit.getName());
+		final Integer existing = positions.get(commit);
+		if (existing != null) {
+			return existing;
+		}
+		ensureCapacity(size + 1);
+
+		final PersonIdent author = commit.getAuthorIdent();
+		final ObjectId id = commit.copy();
+		ids[size] = id;
+		authors[size] = authorPositions.computeIfAbsent(author.getName(),
+				name -> {
+					authorNames.add(name);
+					return authorNames.size() - 1;
+				});
+		messageOffsets[size] = messages.length();
+		messages.append(commit.getFullMessage()
+				.replaceAll("\r\n$|\n$", ""));
+		timestamps[size] = author.getWhen().getTime();
+		timeZones[size] = author.getTimeZoneOffset();
+		parentOffsets[size] = numParents;
+		int ptr = TREE_LINE_LENGTH;
+		while (RawParseUtils.match(raw, ptr, PARENT) >= 0) {
+			if (numParents == parents.length) {
+				parents = Arrays.copyOf(parents, numParents * 2);
+			}
+			parents[numParents++] =
+					ObjectId.fromString(raw, ptr + PARENT.length);
+			ptr += PARENT_LINE_LENGTH;
+		}
+		positions.put(id, size);
+		return size++;
+	}
+
+	/**
+	 * Returns the number of indexed commits.
+	 *
+	 * @return
+	 * 		The number of indexed commits.
+	 */
+	synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the position of the commit with given id.
+	 *
+	 * @param id
+	 * 		The (full) id of the commit.
+	 * @return
+	 * 		The position of the commit with given id or {@code -1} if there is
+	 * 		no such commit.
+	 * @throws NullPointerException
+	 * 		If {@code id} is {@code null}.
+	 */
+	synchronized int indexOf(final String id) throws NullPointerException {
+		Validate.notNull(id);
+		if (!ObjectId.isId(id)) {
+			return -1;
+		}
+		return positions.getOrDefault(ObjectId.fromString(id), -1);
+	}
+
+	synchronized String getId(final int position) {
+		checkPosition(position);
+		return ids[position].getName();
+	}
+
+	synchronized String getAuthor(final int position) {
+		checkPosition(position);
+		return authorNames.get(authors[position]);
+	}
+
+	synchronized String getMessage(final int position) {
+		checkPosition(position);
+		final int end = position + 1 < size
+				? messageOffsets[position + 1]
+				: messages.length();
+		return messages.substring(messageOffsets[position], end);
+	}
+
+	/**
+	 * Returns the author time of the commit at given position in milliseconds
+	 * since the epoch.
+	 */
+	synchronized long getTimestamp(final int position) {
+		checkPosition(position);
+		return timestamps[position];
+	}
+
+	/**
+	 * Returns the author time of the commit at given position in the
+	 * timezone of the author.
+	 */
+	synchronized LocalDateTime getDateTime(final int position) {
+		checkPosition(position);
+		return LocalDateTime.ofInstant(
+				Instant.ofEpochMilli(timestamps[position]),
+				ZoneOffset.ofTotalSeconds(timeZones[position] * 60));
+	}
+
+	synchronized List<String> getParentIds(final int position) {
+		checkPosition(position);
+		final int end = position + 1 < size
+				? parentOffsets[position + 1]
+				: numParents;
+		final List<String> parentIds = new ArrayList<>();
+		for (int i = parentOffsets[position]; i < end; i++) {
+			parentIds.add(parents[i].getName());
+		}
+		return Collections.unmodifiableList(parentIds);
+	}
+
+	private void checkPosition(final int position) {
+		Validate.isTrue(position >= 0 && position < size,
+				"Position %d out of bounds [0, %d)", position, size);
+	}
+
+	private void ensureCapacity(final int capacity) {
+		if (capacity <= ids.length) {
+			return;
+		}
+		final int newCapacity = Math.max(capacity, ids.length * 2);
+		ids = Arrays.copyOf(ids, newCapacity);
+		authors = Arrays.copyOf(authors, newCapacity);
+		messageOffsets = Arrays.copyOf(messageOffsets, newCapacity);
+		timestamps = Arrays.copyOf(timestamps, newCapacity);
+		timeZones = Arrays.copyOf(timeZones, newCapacity);
+		parentOffsets = Arrays.copyOf(parentOffsets, newCapacity);
+	}
+}
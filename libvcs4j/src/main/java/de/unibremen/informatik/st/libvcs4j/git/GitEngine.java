@@ -22,11 +22,12 @@ import org.eclipse.jgit.blame.BlameResult;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.RenameDetector;
 import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.FileMode;
 import org.eclipse.jgit.lib.MutableObjectId;
+import org.eclipse.jgit.lib.NullProgressMonitor;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectLoader;
 import org.eclipse.jgit.lib.ObjectReader;
-import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevTree;
@@ -45,11 +46,13 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -75,6 +78,74 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 	 */
 	private final String branch;
 
+	/**
+	 * Indicates whether the repository is cloned without a working tree (see
+	 * {@link #setBare(boolean)}).
+	 */
+	private boolean bare = false;
+
+	/**
+	 * The revision that has been 'checked out' last. Used in bare mode to
+	 * list the files of the currently processed revision.
+	 */
+	private String checkedOutRevision = null;
+
+	/**
+	 * The repository. Opened lazily by {@link #openRepository()} and released
+	 * by {@link #close()}.
+	 */
+	private Git git = null;
+
+	/**
+	 * The maximum number of idle readers kept in {@link #idleReaders}.
+	 */
+	private static final int MAX_IDLE_READERS =
+			Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Idle readers of {@link #git} (see {@link #borrowReader()}). An
+	 * {@link ObjectReader} is not thread safe, but caches inflated objects
+	 * and pack indexes. Hence, a reader is used by a single operation at a
+	 * time and is returned afterwards, such that the next operation can reuse
+	 * its caches. Readers that exceed {@link #MAX_IDLE_READERS} are closed.
+	 * Guarded by itself.
+	 */
+	private final Deque<ObjectReader> idleReaders = new ArrayDeque<>();
+
+	/**
+	 * Incremented by {@link #close()}. Readers borrowed before are closed
+	 * rather than returned to {@link #idleReaders}. Guarded by
+	 * {@link #idleReaders}.
+	 */
+	private int readerGeneration = 0;
+
+	/**
+	 * The commits of {@link #branch} affecting {@link #getRoot()}, ordered
+	 * from HEAD to the initial commit. Created lazily by
+	 * {@link #getCommitIndex()}.
+	 */
+	private CommitIndex commitIndex = null;
+
+	/**
+	 * The maximum number of commits kept in {@link #blameIndex}.
+	 */
+	private static final int MAX_BLAME_COMMITS = 4096;
+
+	/**
+	 * The commits lines have been attributed to by
+	 * {@link #readLineInfoImpl(VCSFile)} and the commits created by
+	 * {@link #createCommitImpl(String, List, List)} that are not contained in
+	 * {@link #commitIndex}. Shared by all files (and threads) such that the
+	 * author, message, and date time of a commit are parsed only once. Kept
+	 * apart from {@link #commitIndex} which must not contain commits outside
+	 * of {@link #branch} and {@link #getRoot()}. Replaced by an empty index if
+	 * it exceeds {@link #MAX_BLAME_COMMITS} (see {@link #getBlameIndex()}) and
+	 * on {@link #close()}. Guarded by {@link #blameLock}.
+	 */
+	private CommitIndex blameIndex = new CommitIndex();
+
+	private final Object blameLock = new Object();
+
 	/**
 	 * Creates a new Git engine that processes all commits of the given root
 	 * directory and branch. Use {@link VCSEngineBuilder} for convenience.
@@ -190,6 +261,39 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 		branch = pBranch == null ? DEFAULT_BRANCH : pBranch;
 	}
 
+	/**
+	 * Returns whether this engine operates on a bare clone (see
+	 * {@link #setBare(boolean)}).
+	 *
+	 * @return
+	 * 		{@code true} if this engine operates on a bare clone,
+	 * 		{@code false} otherwise.
+	 */
+	public boolean isBare() {
+		return bare;
+	}
+
+	/**
+	 * Enables or disables the bare mode. In bare mode, the repository is
+	 * cloned without a working tree. Revisions are not checked out, the files
+	 * of a revision are listed from the tree of the corresponding commit, and
+	 * the contents of a file are read from the object database. Accordingly,
+	 * the files of the currently processed revision are <b>not</b> physically
+	 * available at {@link #getOutput()}. Must be set before the repository is
+	 * cloned, that is, before {@link #next()} or {@link #listRevisions()} is
+	 * called for the first time.
+	 *
+	 * @param pBare
+	 * 		{@code true} to enable the bare mode, {@code false} to disable it.
+	 * @throws IllegalStateException
+	 * 		If the repository has been cloned already.
+	 */
+	public void setBare(final boolean pBare) throws IllegalStateException {
+		Validate.validateState(!getTarget().toFile().exists(),
+				"The repository has been cloned already");
+		bare = pBare;
+	}
+
 	///////////////////////// Validation and mapping //////////////////////////
 
 	@Override
@@ -280,8 +384,117 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 		return id;
 	}
 
-	private Git openRepository() throws IOException {
-		return Git.open(getTarget().toFile());
+	private synchronized Git openRepository() throws IOException {
+		if (git == null) {
+			git = Git.open(getTarget().toFile());
+		}
+		return git;
+	}
+
+	/**
+	 * A reader borrowed from {@link #idleReaders}. Closing this object
+	 * returns the reader.
+	 */
+	private class PooledReader implements AutoCloseable {
+
+		private final ObjectReader reader;
+
+		private final int generation;
+
+		private PooledReader(final ObjectReader pReader,
+				final int pGeneration) {
+			reader = pReader;
+			generation = pGeneration;
+		}
+
+		@Override
+		public void close() {
+			synchronized (idleReaders) {
+				if (generation == readerGeneration &&
+						idleReaders.size() < MAX_IDLE_READERS) {
+					idleReaders.push(reader);
+					return;
+				}
+			}
+			reader.close();
+		}
+	}
+
+	/**
+	 * Returns {@link #blameIndex}. Replaces it by an empty index beforehand
+	 * if it exceeds {@link #MAX_BLAME_COMMITS}. Callers keep using the
+	 * returned index (and the positions obtained from it) even if it has
+	 * been replaced in the meantime.
+	 */
+	private CommitIndex getBlameIndex() {
+		synchronized (blameLock) {
+			if (blameIndex.size() >= MAX_BLAME_COMMITS) {
+				blameIndex = new CommitIndex();
+			}
+			return blameIndex;
+		}
+	}
+
+	/**
+	 * Borrows an idle reader of {@link #git} or, if there is none, creates a
+	 * new one. The returned object must be closed (which returns the reader)
+	 * as soon as the reader is not needed anymore.
+	 */
+	private PooledReader borrowReader() throws IOException {
+		final int generation;
+		synchronized (idleReaders) {
+			final ObjectReader reader = idleReaders.poll();
+			if (reader != null) {
+				return new PooledReader(reader, readerGeneration);
+			}
+			generation = readerGeneration;
+		}
+		final Repository repo = openRepository().getRepository();
+		return new PooledReader(repo.newObjectReader(), generation);
+	}
+
+	/**
+	 * Returns the commit index. The first call of this method walks the
+	 * history of {@link #branch} (filtered by {@link #getRoot()}) once.
+	 */
+	private synchronized CommitIndex getCommitIndex() throws IOException {
+		if (commitIndex == null) {
+			final CommitIndex index = new CommitIndex();
+			try {
+				final LogCommand logCmd = openRepository().log();
+				addRootPath(logCmd).call().forEach(index::add);
+			} catch (final NoHeadException e) {
+				// empty repository
+			} catch (final GitAPIException e) {
+				throw new IOException(e);
+			}
+			commitIndex = index;
+		}
+		return commitIndex;
+	}
+
+	/**
+	 * Returns the id of the blob of the file located at {@code pPath}
+	 * (relative to {@link #getOutput()}) in {@code pRevision} using
+	 * {@code reader}.
+	 */
+	private ObjectId findBlob(final ObjectReader reader, final String pPath,
+			final String pRevision) throws IOException {
+		final String path = toGitPath(pPath);
+		final AnyObjectId rev = createId(pRevision);
+
+		try (RevWalk revWalk = new RevWalk(reader)) {
+			final RevCommit commit = revWalk.parseCommit(rev);
+			final RevTree tree = commit.getTree();
+
+			try (TreeWalk treeWalk = new TreeWalk(reader)) {
+				treeWalk.addTree(tree);
+				treeWalk.setRecursive(true);
+				treeWalk.setFilter(PathFilter.create(path));
+				Validate.isTrue(treeWalk.next(), "Unable to find '%s'", pPath);
+				return treeWalk.getObjectId(0);
+			}
+		}
 	}
 
 	private String toGitPath(final String pPath) {
@@ -296,8 +509,46 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 		return getTarget().resolve(getRoot());
 	}
 
+	@Override
+	public List<Path> listFilesInOutput() throws IOException {
+		if (!bare) {
+			return super.listFilesInOutput();
+		}
+		Validate.validateState(checkedOutRevision != null,
+				"No revision has been checked out yet");
+		final AnyObjectId rev = createId(checkedOutRevision);
+
+		final List<Path> files = new ArrayList<>();
+		try (PooledReader pooled = borrowReader();
+			 RevWalk revWalk = new RevWalk(pooled.reader);
+			 TreeWalk treeWalk = new TreeWalk(pooled.reader)) {
+			treeWalk.addTree(revWalk.parseCommit(rev).getTree());
+			treeWalk.setRecursive(true);
+			if (!getRoot().isEmpty()) {
+				treeWalk.setFilter(PathFilter.create(getRoot()));
+			}
+			while (treeWalk.next()) {
+				// Submodules are not cloned and, thus, have no files.
+				if (treeWalk.getFileMode(0) != FileMode.GITLINK) {
+					files.add(Paths.get(
+							toAbsolutePath(treeWalk.getPathString())));
+				}
+			}
+		}
+		return files;
+	}
+
+	@Override
+	protected boolean hasWorkingCopy() {
+		return !bare;
+	}
+
 	@Override
 	protected void checkoutImpl(final String revision) throws IOException {
+		if (bare) {
+			checkedOutRevision = revision;
+			return;
+		}
 		try {
 			openRepository()
 					.checkout()
@@ -316,8 +567,9 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 		final Repository repo = openRepository().getRepository();
 
 		final Changes changes = new Changes();
-		try (RevWalk revWalk = new RevWalk(repo);
-			 ObjectReader reader = repo.newObjectReader()) {
+		try (PooledReader pooled = borrowReader();
+			 RevWalk revWalk = new RevWalk(pooled.reader)) {
+			final ObjectReader reader = pooled.reader;
 			final RevTree prevTree = revWalk.parseCommit(from).getTree();
 			final CanonicalTreeParser oldTree = new CanonicalTreeParser();
 			oldTree.reset(reader, prevTree);
@@ -336,24 +588,43 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 					.call()
 					.forEach(entry -> {
 						diffEntries.add(entry);
+						// Submodules are not cloned and, thus, have no files
+						// (see `listFilesInOutput`).
+						final boolean oldFile =
+								entry.getOldMode() != FileMode.GITLINK;
+						final boolean newFile =
+								entry.getNewMode() != FileMode.GITLINK;
+						final String oldPath =
+								toAbsolutePath(entry.getOldPath());
+						final String newPath =
+								toAbsolutePath(entry.getNewPath());
 						switch (entry.getChangeType()) {
 							case ADD:
 							case COPY:
-								changes.getAdded().add(
-										toAbsolutePath(entry.getNewPath()));
+								if (newFile) {
+									changes.getAdded().add(newPath);
+								}
 								break;
 							case DELETE:
-								changes.getRemoved().add(
-										toAbsolutePath(entry.getOldPath()));
+								if (oldFile) {
+									changes.getRemoved().add(oldPath);
+								}
 								break;
 							case MODIFY:
-								changes.getModified().add(
-										toAbsolutePath(entry.getOldPath()));
-								break;
 							case RENAME:
-								changes.getRelocated().add(new SimpleEntry<>(
-										toAbsolutePath(entry.getOldPath()),
-										toAbsolutePath(entry.getNewPath())));
+								if (oldFile && newFile) {
+									if (oldPath.equals(newPath)) {
+										changes.getModified().add(oldPath);
+									} else {
+										changes.getRelocated().add(
+												new SimpleEntry<>(
+														oldPath, newPath));
+									}
+								} else if (oldFile) {
+									changes.getRemoved().add(oldPath);
+								} else if (newFile) {
+									changes.getAdded().add(newPath);
+								}
 								break;
 							default:
 								Validate.fail("Unexpected change type '%c'",
@@ -363,7 +634,7 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 
 			final RenameDetector rd = new RenameDetector(repo);
 			rd.addAll(diffEntries);
-			rd.compute().stream()
+			rd.compute(reader, NullProgressMonitor.INSTANCE).stream()
 					.filter(entry -> entry.getScore() >= rd.getRenameScore())
 					.forEach(rename -> {
 						final boolean removed = changes.getRemoved().remove(
@@ -386,48 +657,31 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 
 	@Override
 	protected Optional<String> getLatestRevision() throws IOException {
-		// Keep in mind that 'git log' returns commits in the following
+		// Keep in mind that the commit index stores commits in the following
 		// order: [HEAD, HEAD^1, ..., initial]
 
-		try {
-			final LogCommand logCmd = openRepository().log();
-			final Iterable<RevCommit> it = addRootPath(logCmd).call();
-			final List<RevCommit> revs = new ArrayList<>();
-			it.forEach(revs::add);
-			return revs.isEmpty()
-					? Optional.empty()
-					: Optional.of(revs.get(0).getName());
-		} catch (NoHeadException e) {
-			return Optional.empty();
-		} catch (final GitAPIException e) {
-			throw new IOException(e);
-		}
+		final CommitIndex index = getCommitIndex();
+		return index.size() == 0
+				? Optional.empty()
+				: Optional.of(index.getId(0));
 	}
 
 	@Override
 	protected List<String> listRevisionsImpl(final LocalDateTime pSince,
 			final LocalDateTime pUntil) throws IOException {
-		final Date since = toDate(pSince);
-		final Date until = toDate(pUntil);
+		final long since = toDate(pSince).getTime();
+		final long until = toDate(pUntil).getTime();
 
-		// Keep in mind that 'git log' returns commits in the following
+		// Keep in mind that the commit index stores commits in the following
 		// order: [HEAD, HEAD^1, ..., initial]
 
+		final CommitIndex index = getCommitIndex();
 		final List<String> revs = new ArrayList<>();
-		try {
-			final LogCommand logCmd = openRepository().log();
-			addRootPath(logCmd)
-					.call()
-					.forEach(rv -> {
-						final Date date = rv.getAuthorIdent().getWhen();
-						if (!date.before(since) && !date.after(until)) {
-							revs.add(rv.getName());
-						}
-					});
-		} catch (NoHeadException e) {
-			return Collections.emptyList();
-		} catch (final GitAPIException e) {
-			throw new IOException(e);
+		for (int i = 0; i < index.size(); i++) {
+			final long timestamp = index.getTimestamp(i);
+			if (timestamp >= since && timestamp <= until) {
+				revs.add(index.getId(i));
+			}
 		}
 		Collections.reverse(revs);
 		return revs;
@@ -438,34 +692,28 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 			final String pTo) throws IOException {
 		final boolean fromIsEmpty = pFrom.isEmpty();
 
-		// Keep in mind that 'git log' returns commits in the following
+		// Keep in mind that the commit index stores commits in the following
 		// order: [HEAD, HEAD^1, ..., initial]
 
+		final CommitIndex index = getCommitIndex();
 		final List<String> revs = new ArrayList<>();
-		try {
-			final LogCommand logCmd = openRepository().log();
-			addRootPath(logCmd);
 
-			// The following code does not fail if `pFrom` > `pTo`, but the
-			// resulting list will be empty.
+		// The following code does not fail if `pFrom` > `pTo`, but the
+		// resulting list will be empty.
 
-			// If `pTo` is empty, we assume HEAD.
-			boolean include = pTo.isEmpty();
-			for (final RevCommit rv : logCmd.call()) {
-				if (!include && rv.getName().startsWith(pTo)) {
-					include = true;
-				}
-				if (include) {
-					revs.add(rv.getName());
-				}
-				if (!fromIsEmpty && rv.getName().startsWith(pFrom)) {
-					break;
-				}
+		// If `pTo` is empty, we assume HEAD.
+		boolean include = pTo.isEmpty();
+		for (int i = 0; i < index.size(); i++) {
+			final String id = index.getId(i);
+			if (!include && id.startsWith(pTo)) {
+				include = true;
+			}
+			if (include) {
+				revs.add(id);
+			}
+			if (!fromIsEmpty && id.startsWith(pFrom)) {
+				break;
 			}
-		} catch (NoHeadException e) {
-			return Collections.emptyList();
-		} catch (final GitAPIException e) {
-			throw new IOException(e);
 		}
 		Collections.reverse(revs);
 		return revs;
@@ -474,23 +722,19 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 	@Override
 	protected byte[] readAllBytesImpl(final String pPath,
 			final String pRevision) throws IOException {
-		final String path = toGitPath(pPath);
-		final AnyObjectId rev = createId(pRevision);
-		final Repository repo = openRepository().getRepository();
-
-		try (RevWalk revWalk = new RevWalk(repo)) {
-			final RevCommit commit = revWalk.parseCommit(rev);
-			final RevTree tree = commit.getTree();
+		try (PooledReader pooled = borrowReader()) {
+			final ObjectLoader loader = pooled.reader.open(
+					findBlob(pooled.reader, pPath, pRevision));
+			return loader.getBytes();
+		}
+	}
 
-			try (TreeWalk treeWalk = new TreeWalk(repo)) {
-				treeWalk.addTree(tree);
-				treeWalk.setRecursive(true);
-				treeWalk.setFilter(PathFilter.create(path));
-				Validate.isTrue(treeWalk.next(), "Unable to find '%s'", pPath);
-				final ObjectId id = treeWalk.getObjectId(0);
-				final ObjectLoader loader = repo.open(id);
-				return loader.getBytes();
-			}
+	@Override
+	protected Optional<String> readContentIdImpl(final String pPath,
+			final String pRevision) throws IOException {
+		try (PooledReader pooled = borrowReader()) {
+			return Optional.of(
+					findBlob(pooled.reader, pPath, pRevision).getName());
 		}
 	}
 
@@ -511,18 +755,28 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 			final int blameNumLines = result.getResultContents().size();
 			final List<String> lines = pFile.readLines();
 			final List<LineInfo> lineInfo = new ArrayList<>();
+			/* Positions are valid for this index only (see getBlameIndex). */
+			final CommitIndex index = getBlameIndex();
+			/* Position in index -> first line attributed to it. */
+			final Map<Integer, LineInfo> attributed = new HashMap<>();
 
 			/* Copy result from blame. */
 			for (int i = 0; i < blameNumLines; i++) {
-				final PersonIdent pi = result.getSourceAuthor(i);
-				final RevCommit rc = result.getSourceCommit(i);
-				final LocalDateTime dt = LocalDateTime.ofInstant(
-						pi.getWhen().toInstant(),
-						pi.getTimeZone().toZoneId());
-				final LineInfo li = getModelFactory().createLineInfo(
-						rc.getName(), pi.getName(),
-						rc.getFullMessage().replaceAll("\r\n$|\n$", ""),
-						dt, i + 1, lines.get(i), pFile, this);
+				final int position = index.add(
+						result.getSourceCommit(i));
+				final LineInfo first = attributed.get(position);
+				final LineInfo li = first != null
+						? getModelFactory().createLineInfo(
+								first.getId(), first.getAuthor(),
+								first.getMessage(), first.getDateTime(),
+								i + 1, lines.get(i), pFile, this)
+						: getModelFactory().createLineInfo(
+								index.getId(position),
+								index.getAuthor(position),
+								index.getMessage(position),
+								index.getDateTime(position),
+								i + 1, lines.get(i), pFile, this);
+				attributed.putIfAbsent(position, li);
 				lineInfo.add(li);
 			}
 			/* Handle EOL fails by duplicating the last blame result. */
@@ -546,56 +800,73 @@ public class GitEngine extends AbstractIntervalVCSEngine {
 	protected Commit createCommitImpl(final String pRevision,
 			final List<FileChange> pFileChanges, final List<Issue> pIssues)
 			throws IllegalArgumentException, IOException {
-		final AnyObjectId rev = createId(pRevision);
-		final List<RevCommit> commits = new ArrayList<>();
-
-		try {
-			openRepository()
-					.log()
-					.setMaxCount(1)
-					.add(rev)
-					.call()
-					.forEach(commits::add);
-		} catch (final GitAPIException e) {
-			throw new IOException(e);
+		CommitIndex index = getCommitIndex();
+		int position = index.indexOf(pRevision);
+		if (position < 0) {
+			// Not processed by the revision listing. Should not happen, but
+			// we can look up the commit anyway. `commitIndex` must not
+			// contain such commits, so it is indexed by `blameIndex`.
+			index = getBlameIndex();
+			try (PooledReader pooled = borrowReader();
+				 RevWalk revWalk = new RevWalk(pooled.reader)) {
+				position = index.add(
+						revWalk.parseCommit(createId(pRevision)));
+			}
 		}
-		Validate.validateState(commits.size() == 1, String.format(
-				"Unexpected number of commits: Expected %d, Actual %d",
-				1, commits.size()));
-		Validate.validateState(commits.get(0).getName().equals(pRevision),
+		Validate.validateState(index.getId(position).equals(pRevision),
 				String.format("Unexpected revision: Expected '%s', Actual '%s'",
-				pRevision, commits.get(0).getName()));
-
-		final RevCommit rc = commits.get(0);
-		final List<String> parentIds =
-				Arrays.stream(rc.getParents())
-						.map(AnyObjectId::getName)
-						.collect(Collectors.toList());
-		final LocalDateTime dt = LocalDateTime.ofInstant(
-				rc.getAuthorIdent().getWhen().toInstant(),
-				rc.getAuthorIdent().getTimeZone().toZoneId());
+				pRevision, index.getId(position)));
 
 		return getModelFactory().createCommit(pRevision,
-				rc.getAuthorIdent().getName(),
-				rc.getFullMessage().replaceAll("\r\n$|\n$", ""),
-				dt, parentIds, pFileChanges, pIssues, this);
+				index.getAuthor(position), index.getMessage(position),
+				index.getDateTime(position), index.getParentIds(position),
+				pFileChanges, pIssues, this);
 	}
 
 	@Override
 	protected void initImpl() throws IOException {
 		try {
 			log.info("Cloning {} to {}", getRepository(), getTarget());
-			Git.cloneRepository()
+			final Git clone = Git.cloneRepository()
 					.setURI(getRepository())
 					.setDirectory(getTarget().toFile())
+					.setBare(bare)
 					.setBranchesToClone(Collections.singleton(branch))
 					.setBranch(branch)
 					.call();
+			synchronized (this) {
+				git = clone;
+			}
 		} catch (final GitAPIException e) {
 			throw new IOException(e);
 		}
 	}
 
+	@Override
+	protected boolean supportsConcurrentReads() {
+		return true;
+	}
+
+	@Override
+	public void close() {
+		super.close();
+		synchronized (idleReaders) {
+			// Borrowed readers are closed as soon as they are returned.
+			readerGeneration++;
+			idleReaders.forEach(ObjectReader::close);
+			idleReaders.clear();
+		}
+		synchronized (blameLock) {
+			blameIndex = new CommitIndex();
+		}
+		synchronized (this) {
+			if (git != null) {
+				git.close();
+				git = null;
+			}
+		}
+	}
+
 	@Override
 	public FilenameFilter createVCSFileFilter() {
 		return (pDir, pName) -> !pName.equals(".git");
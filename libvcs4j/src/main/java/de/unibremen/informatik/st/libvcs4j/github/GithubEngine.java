@@ -4,7 +4,10 @@ import de.unibremen.informatik.st.libvcs4j.Issue;
 import de.unibremen.informatik.st.libvcs4j.Issue.Comment;
 import de.unibremen.informatik.st.libvcs4j.Validate;
 import de.unibremen.informatik.st.libvcs4j.engine.AbstractITEngine;
+import de.unibremen.informatik.st.libvcs4j.engine.RateLimiter;
 import org.kohsuke.github.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -15,6 +18,9 @@ import java.util.Optional;
 
 public class GithubEngine extends AbstractITEngine {
 
+	private static final Logger log =
+			LoggerFactory.getLogger(GithubEngine.class);
+
 	private final GHRepository github;
 
 	/**
@@ -61,6 +67,26 @@ public class GithubEngine extends AbstractITEngine {
 				.getRepository(pRepository);
 	}
 
+	/**
+	 * Sets the given rate limiter and initializes it with the current quota
+	 * of the connected account. Note that, in addition, the underlying
+	 * client waits until the quota is reset if it has been exhausted.
+	 */
+	@Override
+	public void setRateLimiter(final RateLimiter pRateLimiter) {
+		super.setRateLimiter(pRateLimiter);
+		if (pRateLimiter != null) {
+			try {
+				// Does not count against the quota.
+				final GHRateLimit quota = github.getRoot().getRateLimit();
+				pRateLimiter.update(quota.remaining,
+						quota.reset.toInstant());
+			} catch (final IOException e) {
+				log.warn("Unable to read rate limit", e);
+			}
+		}
+	}
+
 	@Override
 	public Optional<Issue> getIssueById(final String pId)
 			throws NullPointerException, IllegalArgumentException,
@@ -68,6 +94,7 @@ public class GithubEngine extends AbstractITEngine {
 		Validate.notEmpty(pId);
 		try {
 			final int id = Integer.parseInt(pId);
+			acquire();
 			GHIssue ghIssue = github.getIssue(id);
 			return Optional.of(createIssue(ghIssue));
 		} catch (final NumberFormatException e) {
@@ -88,6 +115,7 @@ public class GithubEngine extends AbstractITEngine {
 				.atZone(ZoneId.systemDefault())
 				.toLocalDateTime();
 		final List<Comment> comments = new ArrayList<>();
+		acquire();
 		for (final GHIssueComment c : pGHIssue.getComments()) {
 			comments.add(createComment(c));
 		}
@@ -34,6 +34,7 @@ public class GitlabEngine extends AbstractITEngine {
 	public Optional<Issue> getIssueById(final String pId) throws IOException {
 		Validate.notEmpty(pId);
 		try {
+			acquire();
 			final GitlabIssue glIssue = gitlab.getIssue(
 					getRepository(), Integer.parseInt(pId));
 			return Optional.of(createIssue(glIssue));
@@ -43,10 +43,12 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.logging.LogManager;
 import java.util.regex.Pattern;
@@ -78,10 +80,24 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 	private static final Predicate<String> FILE_PROTOCOL =
 			Pattern.compile("file://.*").asPredicate();
 
+	/**
+	 * Matches the email address of a Mercurial user.
+	 */
+	private static final Pattern EMAIL = Pattern.compile(" <.*@.*>$");
+
 	private final String branch;
 
 	private Repository repository = null;
 
+	/**
+	 * Changeset id -> changeset. Populated by all log commands (see
+	 * {@link #index(List)}), such that commits can be created without
+	 * querying the command server again. A changeset is removed as soon as
+	 * its commit has been created (see {@link #createCommitImpl(String, List,
+	 * List)}).
+	 */
+	private final Map<String, Changeset> changelog = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new Mercurial engine that processes all commits of the given
 	 * root directory and branch. Use {@link VCSEngineBuilder} for convenience.
@@ -281,6 +297,23 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 		return getTarget().resolve(pPath).toString();
 	}
 
+	private String toAuthor(final Changeset pChangeset) {
+		return EMAIL.matcher(pChangeset.getUser()).replaceAll("");
+	}
+
+	/**
+	 * Stores the given changesets in {@link #changelog} and returns their
+	 * ids (in the same order).
+	 */
+	private List<String> index(final List<Changeset> pChangesets) {
+		final List<String> ids = new ArrayList<>(pChangesets.size());
+		for (final Changeset cs : pChangesets) {
+			changelog.put(cs.getNode(), cs);
+			ids.add(cs.getNode());
+		}
+		return ids;
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 
 	@Override
@@ -382,16 +415,20 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 						"Line length does not match");
 			}
 
+			// Most lines share a few changesets.
+			final Map<Changeset, String> authors = new HashMap<>();
+			final Map<Changeset, LocalDateTime> dateTimes = new HashMap<>();
 			for (int i = 0; i < lines.size(); i++) {
 				final AnnotateLine al = aLines.get(i);
-				final LocalDateTime dt = LocalDateTime.ofInstant(
-						al.getChangeset().getTimestamp().getDate().toInstant(),
-						ZoneId.systemDefault());
+				final Changeset cs = al.getChangeset();
+				final LocalDateTime dt = dateTimes.computeIfAbsent(cs,
+						c -> LocalDateTime.ofInstant(
+								c.getTimestamp().getDate().toInstant(),
+								ZoneId.systemDefault()));
 				final LineInfo li = getModelFactory().createLineInfo(
-						al.getChangeset().getNode(),
-						al.getChangeset().getUser()
-								.replaceAll(" <.*@.*>$", ""),
-						al.getChangeset().getMessage(),
+						cs.getNode(),
+						authors.computeIfAbsent(cs, this::toAuthor),
+						cs.getMessage(),
 						dt,
 						i + 1,
 						// JavaHG does not handle non-ASCII chars very well as
@@ -413,17 +450,20 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 			throws IllegalArgumentException, IOException {
 		Validate.validateState(repository != null);
 
-		final List<Changeset> changes;
-		try {
-			final LogCommand cmd = LogCommandFlags.on(repository);
-			changes = cmd.rev(pRevision).execute();
-		} catch (final RuntimeException e) {
-			throw new IOException(e);
+		Changeset changeset = changelog.remove(pRevision);
+		if (changeset == null) {
+			final List<Changeset> changes;
+			try {
+				final LogCommand cmd = LogCommandFlags.on(repository);
+				changes = cmd.rev(pRevision).execute();
+			} catch (final RuntimeException e) {
+				throw new IOException(e);
+			}
+			Validate.validateState(changes.size() == 1,
+					"Unexpected number of log entries: Expected %d, Actual %d",
+					1, changes.size());
+			changeset = changes.get(0);
 		}
-		Validate.validateState(changes.size() == 1,
-				"Unexpected number of log entries: Expected %d, Actual %d",
-				1, changes.size());
-		final Changeset changeset = changes.get(0);
 
 		final LocalDateTime dateTime = LocalDateTime.ofInstant(
 				changeset.getTimestamp().getDate().toInstant(),
@@ -435,9 +475,8 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 				.map(String::valueOf)
 				.forEach(parents::add);
 		return getModelFactory().createCommit(pRevision,
-				changeset.getUser().replaceAll(" <.*@.*>$", ""),
-				changeset.getMessage(), dateTime, parents, pFileChanges,
-				pIssues, this);
+				toAuthor(changeset), changeset.getMessage(), dateTime,
+				parents, pFileChanges, pIssues, this);
 	}
 
 	@Override
@@ -446,14 +485,12 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 		// order: [n, n-1, ..., 0] (or corresponding changeset id)
 
 		try {
-			final LogCommand cmd = LogCommandFlags.on(repository);
+			final LogCommand cmd = LogCommandFlags.on(repository).limit(1);
 			if (branch != null) {
 				cmd.branch(branch);
 			}
-			return cmd.execute(getRoot())
+			return index(cmd.execute(getRoot()))
 					.stream()
-					.map(Changeset::getNode)
-					.map(String::valueOf)
 					.findFirst();
 		} catch (final RuntimeException e) {
 			throw new IOException(e);
@@ -486,12 +523,7 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 			if (branch != null) {
 				cmd.branch(branch);
 			}
-			revisions = cmd
-					.execute(getRoot())
-					.stream()
-					.map(Changeset::getNode)
-					.map(String::valueOf)
-					.collect(Collectors.toList());
+			revisions = index(cmd.execute(getRoot()));
 		} catch (final RuntimeException e) {
 			throw new IOException(e);
 		}
@@ -519,10 +551,7 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 			if (branch != null) {
 				cmd.branch(branch);
 			}
-			List<Changeset> changesets = cmd
-					.execute(getRoot())
-					.stream()
-					.collect(Collectors.toList());
+			final List<Changeset> changesets = cmd.execute(getRoot());
 
 			// The following code does not fail if `pFromRev` > `pToRev`, but
 			// the resulting list will be empty.
@@ -543,6 +572,7 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 					include = true;
 				}
 				if (include) {
+					changelog.put(revId, cs);
 					revisions.add(revId);
 				}
 				// Likewise, compare number and id.
@@ -573,6 +603,20 @@ public class HGEngine extends AbstractIntervalVCSEngine {
 		}
 	}
 
+	/**
+	 * Closes the command server of the cloned repository. The engine can not
+	 * be used anymore after calling this method.
+	 */
+	@Override
+	public void close() {
+		super.close();
+		changelog.clear();
+		if (repository != null) {
+			repository.close();
+			repository = null;
+		}
+	}
+
 	@Override
 	public FilenameFilter createVCSFileFilter() {
 		return (dir, name) -> !name.equals(".hg");
@@ -16,12 +16,16 @@ import de.unibremen.informatik.st.libvcs4j.exception.IllegalRevisionException;
 import de.unibremen.informatik.st.libvcs4j.exception.IllegalTargetException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tmatesoft.svn.core.SVNDepth;
 import org.tmatesoft.svn.core.SVNException;
+import org.tmatesoft.svn.core.SVNLogEntry;
+import org.tmatesoft.svn.core.SVNLogEntryPath;
 import org.tmatesoft.svn.core.SVNNodeKind;
+import org.tmatesoft.svn.core.SVNProperty;
 import org.tmatesoft.svn.core.SVNURL;
+import org.tmatesoft.svn.core.io.SVNRepository;
 import org.tmatesoft.svn.core.io.SVNRepositoryFactory;
 import org.tmatesoft.svn.core.wc.ISVNAnnotateHandler;
 import org.tmatesoft.svn.core.wc.SVNClientManager;
@@ -30,25 +34,33 @@ import org.tmatesoft.svn.core.wc.SVNStatusType;
 import org.tmatesoft.svn.core.wc2.SvnCat;
 import org.tmatesoft.svn.core.wc2.SvnCheckout;
 import org.tmatesoft.svn.core.wc2.SvnDiffSummarize;
+import org.tmatesoft.svn.core.wc2.SvnGetProperties;
 import org.tmatesoft.svn.core.wc2.SvnLog;
 import org.tmatesoft.svn.core.wc2.SvnOperationFactory;
 import org.tmatesoft.svn.core.wc2.SvnRevisionRange;
 import org.tmatesoft.svn.core.wc2.SvnTarget;
+import org.tmatesoft.svn.core.wc2.SvnUpdate;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -74,6 +86,118 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 	public static final LocalDateTime MINIMUM_DATETIME =
 			LocalDateTime.of(1980, 1, 1, 0, 0, 0);
 
+	/**
+	 * The factory of all svn operations. Created lazily by
+	 * {@link #getOperationFactory()} and disposed by {@link #close()}. Reusing
+	 * the factory allows to reuse its connections to the repository.
+	 */
+	private SvnOperationFactory operationFactory = null;
+
+	/**
+	 * The session used to query the repository. Opened lazily by
+	 * {@link #getSession()} and closed by {@link #close()}.
+	 */
+	private SVNRepository session = null;
+
+	/**
+	 * The client manager used to annotate files. Created lazily by
+	 * {@link #getClientManager()} and disposed by {@link #close()}.
+	 */
+	private SVNClientManager clientManager = null;
+
+	/**
+	 * The path of {@link #getInput()} relative to the repository root (for
+	 * example, '/trunk'). Is empty if {@link #getInput()} is the repository
+	 * root. Computed lazily by {@link #getInputPath()}.
+	 */
+	private String inputPath = null;
+
+	/**
+	 * Whether the working copy of the currently checked out revision has
+	 * externals (see {@link #requiresListing()}). Updated by
+	 * {@link #checkoutImpl(String)}.
+	 */
+	private volatile boolean externals = false;
+
+	/**
+	 * Revision -> commit information of revision. Populated by
+	 * {@link #listRevisions(SVNRevision, SVNRevision)}, which allows to create
+	 * commits without querying the repository again. An entry is removed as
+	 * soon as its commit has been created.
+	 */
+	private final Map<String, CommitInfo> commitInfos =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * Revision -> files of {@link #getInput()} changed by revision. Populated
+	 * by {@link #listRevisions(SVNRevision, SVNRevision)} for revisions whose
+	 * changes can be derived from the changed paths of their log entry (see
+	 * {@link #toChangedFiles(String, SVNLogEntry)}). An entry is removed as
+	 * soon as its changes have been created.
+	 */
+	private final Map<String, List<ChangedFile>> changedFiles =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * Revision -> the previous revision affecting {@link #getInput()}. That
+	 * is, no revision in between changed {@link #getInput()}.
+	 */
+	private final Map<String, String> predecessors = new ConcurrentHashMap<>();
+
+	/**
+	 * The maximum number of entries of {@link #annotateInfos}.
+	 */
+	private static final int MAX_ANNOTATE_INFOS = 1024;
+
+	/**
+	 * Revision -> commit information of revision, in access order (least
+	 * recently used first). Used by {@link #readLineInfoImpl(VCSFile)} such
+	 * that the commit information of a revision lines are attributed to is
+	 * queried only once for all files. Kept apart from {@link #commitInfos},
+	 * whose entries are removed as soon as their commit has been created.
+	 * Guarded by itself.
+	 */
+	private final Map<Long, CommitInfo> annotateInfos =
+			new LinkedHashMap<Long, CommitInfo>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(
+						final Map.Entry<Long, CommitInfo> eldest) {
+					return size() > MAX_ANNOTATE_INFOS;
+				}
+			};
+
+	/**
+	 * The parts of a {@link SVNLogEntry} that are required to create a
+	 * commit. Unlike {@link SVNLogEntry}, does not keep the changed paths.
+	 */
+	@AllArgsConstructor
+	private static class CommitInfo {
+		private final long revision;
+		private final String author;
+		private final Date date;
+		private final String message;
+
+		private static CommitInfo of(final SVNLogEntry pEntry) {
+			return new CommitInfo(pEntry.getRevision(), pEntry.getAuthor(),
+					pEntry.getDate(), pEntry.getMessage());
+		}
+
+		private String getAuthorOrDefault() {
+			return author == null ? "(no author)" : author;
+		}
+	}
+
+	/**
+	 * A file changed by a revision.
+	 */
+	@AllArgsConstructor
+	private static class ChangedFile {
+		/* Relative to `inputPath`. */
+		private final String path;
+		/* See SVNLogEntryPath#getType() */
+		private final char type;
+	}
+
 	/**
 	 * Creates a new SVN engine that processes all commits of the given root
 	 * directory. Use {@link VCSEngineBuilder} for convenience.
@@ -277,19 +401,88 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 		return getTarget().toFile();
 	}
 
+	private synchronized SvnOperationFactory getOperationFactory() {
+		if (operationFactory == null) {
+			operationFactory = new SvnOperationFactory();
+		}
+		return operationFactory;
+	}
+
+	private synchronized SVNClientManager getClientManager() {
+		if (clientManager == null) {
+			clientManager = SVNClientManager.newInstance();
+		}
+		return clientManager;
+	}
+
+	private synchronized SVNRepository getSession() throws SVNException {
+		if (session == null) {
+			session = SVNRepositoryFactory.create(createSVNURL(getInput()));
+		}
+		return session;
+	}
+
+	private String getInputPath() throws SVNException {
+		if (inputPath == null) {
+			final String root = getSession().getRepositoryRoot(true).getPath();
+			final String input = createSVNURL(getInput()).getPath();
+			Validate.validateState(input.startsWith(root),
+					"'%s' is not located in '%s'", input, root);
+			inputPath = input.substring(root.length());
+			if (inputPath.endsWith("/")) {
+				inputPath = inputPath.substring(0, inputPath.length() - 1);
+			}
+		}
+		return inputPath;
+	}
+
+	/**
+	 * Returns whether any directory of the working copy at {@code pTarget}
+	 * defines externals (see {@link SVNProperty#EXTERNALS}).
+	 */
+	private boolean hasExternals(final SvnTarget pTarget)
+			throws SVNException {
+		final AtomicBoolean found = new AtomicBoolean(false);
+		final SvnGetProperties properties =
+				getOperationFactory().createGetProperties();
+		properties.setSingleTarget(pTarget);
+		properties.setRevision(SVNRevision.WORKING);
+		properties.setDepth(SVNDepth.INFINITY);
+		properties.setReceiver((target, props) -> {
+			if (props.getStringValue(SVNProperty.EXTERNALS) != null) {
+				found.set(true);
+			}
+		});
+		properties.run();
+		return found.get();
+	}
+
+	/**
+	 * Lists the revisions affecting {@link #getInput()} within the given
+	 * range using a single log stream. The parts of the log entries that are
+	 * required to create commits and changes are stored in
+	 * {@link #commitInfos}, {@link #changedFiles}, and {@link #predecessors}.
+	 */
 	private List<String> listRevisions(final SVNRevision from,
 			final SVNRevision to) throws IOException {
-		final SvnOperationFactory factory = new SvnOperationFactory();
 		final List<String> revs = new ArrayList<>();
 		try {
 			final SVNURL inputUrl = createSVNURL(getInput());
 			final SvnTarget input = SvnTarget.fromURL(inputUrl);
-			final SvnLog svnLog = factory.createLog();
+			final SvnLog svnLog = getOperationFactory().createLog();
 			svnLog.addRange(SvnRevisionRange.create(from, to));
 			svnLog.setSingleTarget(input);
+			svnLog.setDiscoverChangedPaths(true);
 			svnLog.setReceiver((__, entry) -> {
 				if (entry.getRevision() != 0) {
-					revs.add(String.valueOf(entry.getRevision()));
+					final String rev = String.valueOf(entry.getRevision());
+					if (!revs.isEmpty()) {
+						predecessors.put(rev, revs.get(revs.size() - 1));
+					}
+					commitInfos.put(rev, CommitInfo.of(entry));
+					toChangedFiles(getInputPath(), entry)
+							.ifPresent(files -> changedFiles.put(rev, files));
+					revs.add(rev);
 				}
 			});
 			svnLog.run();
@@ -303,23 +496,161 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 				return Collections.emptyList();
 			}
 			throw new IOException(e);
-		} finally {
-			factory.dispose();
 		}
 		return revs;
 	}
 
-	@AllArgsConstructor
-	private class AnnotateHandler implements ISVNAnnotateHandler {
+	/**
+	 * Returns the files of {@code pInput} changed by {@code pEntry}. Returns
+	 * an empty {@link Optional} if the changed paths of {@code pEntry} are
+	 * not sufficient to derive the changed files. This is the case if a
+	 * directory (including {@code pInput} and its parents) has been added,
+	 * deleted, or replaced, as the files of such a directory are not listed.
+	 */
+	private static Optional<List<ChangedFile>> toChangedFiles(
+			final String pInput, final SVNLogEntry pEntry) {
+		final List<ChangedFile> files = new ArrayList<>();
+		for (final SVNLogEntryPath path : pEntry.getChangedPaths().values()) {
+			final String changed = path.getPath();
+			final char type = path.getType();
+			if (pInput.equals(changed) || pInput.startsWith(changed + "/")) {
+				// `input` or one of its parents.
+				if (type != SVNLogEntryPath.TYPE_MODIFIED) {
+					return Optional.empty();
+				}
+				continue;
+			} else if (!changed.startsWith(pInput + "/")) {
+				// Outside of `input`.
+				continue;
+			}
+			final SVNNodeKind kind = path.getKind();
+			if (kind == SVNNodeKind.DIR) {
+				if (type != SVNLogEntryPath.TYPE_MODIFIED) {
+					return Optional.empty();
+				}
+				continue;
+			} else if (kind != SVNNodeKind.FILE) {
+				return Optional.empty();
+			} else if (type != SVNLogEntryPath.TYPE_ADDED &&
+					type != SVNLogEntryPath.TYPE_DELETED &&
+					type != SVNLogEntryPath.TYPE_MODIFIED &&
+					type != SVNLogEntryPath.TYPE_REPLACED) {
+				return Optional.empty();
+			}
+			files.add(new ChangedFile(
+					changed.substring(pInput.length() + 1), type));
+		}
+		return Optional.of(files);
+	}
 
-		@NonNull
-		private final String revision;
+	/**
+	 * Creates the changes between {@code pFromRev} and {@code pToRev} from the
+	 * changed files of {@code pToRev} (see {@link #changedFiles}). Returns an
+	 * empty {@link Optional} if there are no such files or if a revision in
+	 * between affected {@link #getInput()}. A modified file is reported as
+	 * modified even if only its properties have been changed. Accordingly,
+	 * {@link #createChangesFromDiff(String, String)} reports such files as
+	 * modified, too.
+	 */
+	Optional<Changes> createChangesFromLog(final String pFromRev,
+			final String pToRev) {
+		final List<ChangedFile> files = changedFiles.remove(pToRev);
+		if (files == null || !pFromRev.equals(predecessors.remove(pToRev))) {
+			return Optional.empty();
+		}
+		final Changes changes = new Changes();
+		for (final ChangedFile file : files) {
+			final String path = toAbsolutePath(file.path);
+			if (file.type == SVNLogEntryPath.TYPE_ADDED) {
+				changes.getAdded().add(path);
+			} else if (file.type == SVNLogEntryPath.TYPE_DELETED) {
+				changes.getRemoved().add(path);
+			} else {
+				changes.getModified().add(path);
+			}
+		}
+		return Optional.of(changes);
+	}
+
+	/**
+	 * Creates the changes between {@code pFromRev} and {@code pToRev} using
+	 * a diff summary. Files whose properties have been changed only are
+	 * reported as modified (see {@link #createChangesFromLog(String,
+	 * String)}).
+	 */
+	Changes createChangesFromDiff(final String pFromRev,
+			final String pToRev) throws SVNException {
+		final Changes changes = new Changes();
+		final SVNRevision from = createSVNRevision(pFromRev);
+		final SVNRevision to = createSVNRevision(pToRev);
+		final SvnTarget input = SvnTarget.fromURL(
+				createSVNURL(getInput()), from);
+
+		final SvnDiffSummarize diff =
+				getOperationFactory().createDiffSummarize();
+		diff.setSource(input, from, to);
+		diff.setRecurseIntoDeletedDirectories(true);
+		diff.setReceiver((__, entry) -> {
+			final SVNNodeKind kind = entry.getKind();
+			final SVNStatusType status = entry.getModificationType();
+			if (kind.equals(SVNNodeKind.FILE)) {
+				if (status.equals(SVNStatusType.STATUS_ADDED)) {
+					changes.getAdded().add(toAbsolutePath(entry.getPath()));
+				} else if (status.equals(SVNStatusType.STATUS_DELETED)) {
+					changes.getRemoved().add(toAbsolutePath(entry.getPath()));
+				} else if (status.equals(SVNStatusType.STATUS_MODIFIED) ||
+						status.equals(SVNStatusType.STATUS_REPLACED)) {
+					changes.getModified().add(toAbsolutePath(entry.getPath()));
+				} else if (entry.isPropertiesModified() &&
+						(status.equals(SVNStatusType.STATUS_NONE) ||
+						status.equals(SVNStatusType.STATUS_NORMAL))) {
+					changes.getModified().add(toAbsolutePath(entry.getPath()));
+				} else {
+					log.warn("Unsupported change type");
+				}
+			}
+		});
+		diff.run();
+		return changes;
+	}
 
-		@NonNull
-		private final VCSFile file;
+	private Commit createCommit(final String pRevision,
+			final CommitInfo pInfo, final List<FileChange> pFileChanges,
+			final List<Issue> pIssues) {
+		final String author = pInfo.getAuthorOrDefault();
+		final LocalDateTime dt = LocalDateTime.ofInstant(
+				pInfo.date.toInstant(),
+				ZoneId.systemDefault());
+		final List<String> parentIds = new ArrayList<>();
+		if (pInfo.revision > 1) {
+			parentIds.add(String.valueOf(pInfo.revision - 1));
+		}
+		return getModelFactory().createCommit(pRevision, author,
+				pInfo.message, dt, parentIds, pFileChanges,
+				pIssues, this);
+	}
+
+	/**
+	 * A line reported by {@link AnnotateHandler}.
+	 */
+	@AllArgsConstructor
+	private static class AnnotatedLine {
+		private final long revision;
+		private final Date date;
+		private final String line;
+		private final int lineNumber;
+	}
+
+	/**
+	 * Collects the annotated lines of a file. The commit information of the
+	 * lines is resolved afterwards (see {@link #readLineInfoImpl(VCSFile)}),
+	 * such that it is queried once per distinct revision rather than once
+	 * per line.
+	 */
+	private static class AnnotateHandler implements ISVNAnnotateHandler {
 
 		@Getter
-		private final List<LineInfo> lineInfoList = new ArrayList<>();
+		private final List<AnnotatedLine> lines = new ArrayList<>();
 
 		@Override
 		public void handleLine(final Date pDate, long pRevision,
@@ -334,18 +665,8 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 				final Date pMergedDate, final long mergedRevision,
 				final String pMergedAuthor, final String pMergedPath,
 				final int pLineNumber) throws SVNException {
-			try {
-				final LineInfo li = getModelFactory().createLineInfo(
-						revision, pAuthor,
-						createCommitImpl(revision, Collections.emptyList(),
-								Collections.emptyList()).getMessage(),
-						LocalDateTime.ofInstant(pDate.toInstant(),
-								ZoneId.systemDefault()),
-						pLineNumber + 1, pLine, file, SVNEngine.this);
-				lineInfoList.add(li);
-			} catch (final IOException e) {
-				throw new UncheckedIOException(e);
-			}
+			lines.add(new AnnotatedLine(
+					pRevision, pDate, pLine, pLineNumber + 1));
 		}
 
 		@Override
@@ -361,6 +682,80 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 		}
 	}
 
+	/**
+	 * Returns the commit information of the given revisions. Revisions that
+	 * are neither available in {@link #commitInfos} nor in
+	 * {@link #annotateInfos} are queried with a single log request for
+	 * {@code pTarget} and are stored in {@link #annotateInfos}.
+	 */
+	private Map<Long, CommitInfo> findCommitInfos(final SvnTarget pTarget,
+			final Collection<Long> pRevisions) throws SVNException {
+		final Map<Long, CommitInfo> infos = new HashMap<>();
+		final List<Long> missing = new ArrayList<>();
+		for (final Long r : pRevisions) {
+			CommitInfo info = commitInfos.get(String.valueOf(r));
+			if (info == null) {
+				synchronized (annotateInfos) {
+					info = annotateInfos.get(r);
+				}
+			}
+			if (info != null) {
+				infos.put(r, info);
+			} else {
+				missing.add(r);
+			}
+		}
+		if (missing.isEmpty()) {
+			return infos;
+		}
+		Collections.sort(missing);
+		final SvnLog svnLog = getOperationFactory().createLog();
+		svnLog.addRange(SvnRevisionRange.create(
+				SVNRevision.create(missing.get(0)),
+				SVNRevision.create(missing.get(missing.size() - 1))));
+		svnLog.setSingleTarget(pTarget);
+		// Only author, date, and message are required.
+		svnLog.setDiscoverChangedPaths(false);
+		svnLog.setReceiver((__, entry) -> {
+			if (!infos.containsKey(entry.getRevision())) {
+				infos.put(entry.getRevision(), CommitInfo.of(entry));
+			}
+		});
+		svnLog.run();
+		for (final Long r : missing) {
+			if (!infos.containsKey(r)) {
+				// Not reported for `pTarget`. Should not happen, but we can
+				// look up the revision anyway.
+				infos.put(r, readCommitInfo(String.valueOf(r)));
+			}
+			synchronized (annotateInfos) {
+				annotateInfos.put(r, infos.get(r));
+			}
+		}
+		return infos;
+	}
+
+	/**
+	 * Reads the commit information of {@code pRevision} from the log of
+	 * {@link #getRepository()}.
+	 */
+	private CommitInfo readCommitInfo(final String pRevision)
+			throws SVNException {
+		final SVNRevision revision = createSVNRevision(pRevision);
+		final SvnTarget input = SvnTarget.fromURL(
+				createSVNURL(getRepository()), revision);
+
+		final List<CommitInfo> infos = new ArrayList<>();
+		final SvnLog svnLog = getOperationFactory().createLog();
+		svnLog.addRange(SvnRevisionRange.create(revision, revision));
+		svnLog.setSingleTarget(input);
+		svnLog.setReceiver((__, entry) -> infos.add(CommitInfo.of(entry)));
+		svnLog.run();
+		Validate.isTrue(infos.size() == 1,
+				"Unable to create commit for revision '%s'", pRevision);
+		return infos.get(0);
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 
 	@Override
@@ -370,69 +765,46 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 
 	@Override
 	protected void checkoutImpl(final String pRevision) throws IOException {
-		final SvnOperationFactory factory = new SvnOperationFactory();
+		final SvnOperationFactory factory = getOperationFactory();
 
 		try {
 			final SVNRevision revision = createSVNRevision(pRevision);
-			final SvnTarget input = SvnTarget.fromURL(
-					createSVNURL(getInput()));
-			final SvnTarget target = SvnTarget.fromFile(
-					createTargetFile());
-
-			final SvnCheckout checkout = factory.createCheckout();
-			checkout.setRevision(revision);
-			checkout.setSource(input);
-			checkout.setSingleTarget(target);
-			checkout.run();
-		} catch (final SVNException e) {
-			if (e.getErrorMessage()
-					.getErrorCode()
-					.getCode() != 155000) {
-				throw new IOException(e);
+			final File targetFile = createTargetFile();
+			final SvnTarget target = SvnTarget.fromFile(targetFile);
+
+			if (new File(targetFile, ".svn").isDirectory()) {
+				// Transfer the delta to `revision` only.
+				final SvnUpdate update = factory.createUpdate();
+				update.setRevision(revision);
+				update.setSingleTarget(target);
+				update.run();
+			} else {
+				final SvnTarget input = SvnTarget.fromURL(
+						createSVNURL(getInput()));
+				final SvnCheckout checkout = factory.createCheckout();
+				checkout.setRevision(revision);
+				checkout.setSource(input);
+				checkout.setSingleTarget(target);
+				checkout.run();
 			}
-		} finally {
-			factory.dispose();
+			externals = hasExternals(target);
+		} catch (final SVNException e) {
+			throw new IOException(e);
 		}
 	}
 
 	@Override
 	protected Changes createChangesImpl(final String fromRev,
 			final String toRev) throws IOException {
-		final SvnOperationFactory factory = new SvnOperationFactory();
-
-		final Changes changes = new Changes();
+		final Optional<Changes> fromLog = createChangesFromLog(fromRev, toRev);
+		if (fromLog.isPresent()) {
+			return fromLog.get();
+		}
 		try {
-			final SVNRevision from = createSVNRevision(fromRev);
-			final SVNRevision to = createSVNRevision(toRev);
-			final SvnTarget input = SvnTarget.fromURL(
-					createSVNURL(getInput()), from);
-
-			final SvnDiffSummarize diff = factory.createDiffSummarize();
-			diff.setSource(input, from, to);
-			diff.setRecurseIntoDeletedDirectories(true);
-			diff.setReceiver((__, entry) -> {
-				final SVNNodeKind kind = entry.getKind();
-				final SVNStatusType status = entry.getModificationType();
-				if (kind.equals(SVNNodeKind.FILE)) {
-					if (status.equals(SVNStatusType.STATUS_ADDED)) {
-						changes.getAdded().add(toAbsolutePath(entry.getPath()));
-					} else if (status.equals(SVNStatusType.STATUS_DELETED)) {
-						changes.getRemoved().add(toAbsolutePath(entry.getPath()));
-					} else if (status.equals(SVNStatusType.STATUS_MODIFIED) ||
-							status.equals(SVNStatusType.STATUS_REPLACED)) {
-						changes.getModified().add(toAbsolutePath(entry.getPath()));
-					} else {
-						log.warn("Unsupported change type");
-					}
-				}
-			});
-			diff.run();
+			return createChangesFromDiff(fromRev, toRev);
 		} catch (final SVNException e) {
 			throw new IOException(e);
-		} finally {
-			factory.dispose();
 		}
-		return changes;
 	}
 
 	@Override
@@ -457,9 +829,7 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 			final String pTo) throws IOException {
 		final long head;
 		try {
-			head = SVNRepositoryFactory
-					.create(createSVNURL(getInput()))
-					.getLatestRevision();
+			head = getSession().getLatestRevision();
 		} catch (final SVNException e) {
 			throw new IOException(e);
 		}
@@ -479,7 +849,7 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 	@Override
 	protected byte[] readAllBytesImpl(final String pPath,
 			final String pRevision) throws IOException {
-		final SvnOperationFactory factory = new SvnOperationFactory();
+		final SvnOperationFactory factory = getOperationFactory();
 
 		try(final ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
 			final SVNRevision revision = createSVNRevision(pRevision);
@@ -494,8 +864,6 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 			return bos.toByteArray();
 		} catch (final SVNException e) {
 			throw new IOException(e);
-		} finally {
-			factory.dispose();
 		}
 	}
 
@@ -503,29 +871,42 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 	public List<LineInfo> readLineInfoImpl(final VCSFile pFile)
 			throws NullPointerException, IllegalArgumentException,
 			IOException {
-		final SvnOperationFactory factory = new SvnOperationFactory();
-
 		try {
 			final String rev = pFile.getRevision().getId();
 			final String relPath = pFile.getRelativePath();
 			final SVNRevision revision = createSVNRevision(rev);
 			final SvnTarget path = SvnTarget.fromURL(
 					createSVNURL(toSVNPath(relPath)), revision);
-			final AnnotateHandler handler = new AnnotateHandler(rev, pFile);
+			final AnnotateHandler handler = new AnnotateHandler();
 
-			SVNClientManager
-					.newInstance()
+			getClientManager()
 					.getLogClient()
 					.doAnnotate(path.getURL(), revision,
 					SVNRevision.create(0), revision, handler);
+
+			// Resolve the commit information of all distinct revisions with
+			// a single log request.
+			final Set<Long> revisions = handler.getLines().stream()
+					.map(l -> l.revision)
+					.collect(Collectors.toSet());
+			final Map<Long, CommitInfo> infos =
+					findCommitInfos(path, revisions);
+
+			final List<LineInfo> lineInfoList = new ArrayList<>();
+			for (final AnnotatedLine line : handler.getLines()) {
+				final CommitInfo info = infos.get(line.revision);
+				lineInfoList.add(getModelFactory().createLineInfo(
+						String.valueOf(line.revision),
+						info.getAuthorOrDefault(), info.message,
+						LocalDateTime.ofInstant(line.date.toInstant(),
+								ZoneId.systemDefault()),
+						line.lineNumber, line.line, pFile, this));
+			}
 			final List<String> lines = pFile.readLinesWithEOL();
-			final List<LineInfo> lineInfoList = handler.lineInfoList;
 			Validate.validateState(lines.size() == lineInfoList.size());
 			return lineInfoList;
-		} catch (final SVNException | UncheckedIOException e) {
+		} catch (final SVNException e) {
 			throw new IOException(e);
-		} finally {
-			factory.dispose();
 		}
 	}
 
@@ -533,40 +914,47 @@ public class SVNEngine extends AbstractIntervalVCSEngine {
 	protected Commit createCommitImpl(final String pRevision,
 			final List<FileChange> pFileChanges, final List<Issue> pIssues)
 			throws IllegalArgumentException, IOException {
-		final SvnOperationFactory factory = new SvnOperationFactory();
-
+		final CommitInfo info = commitInfos.remove(pRevision);
+		if (info != null) {
+			return createCommit(pRevision, info, pFileChanges, pIssues);
+		}
 		try {
-			final SVNRevision revision = createSVNRevision(pRevision);
-			final SvnTarget input = SvnTarget.fromURL(
-					createSVNURL(getRepository()), revision);
-
-			final List<Commit> commits = new ArrayList<>();
-			final SvnLog svnLog = factory.createLog();
-			svnLog.addRange(SvnRevisionRange.create(revision, revision));
-			svnLog.setSingleTarget(input);
-			svnLog.setReceiver((__, entry) -> {
-				final String author = entry.getAuthor() == null
-						? "(no author)" : entry.getAuthor();
-				final LocalDateTime dt = LocalDateTime.ofInstant(
-						entry.getDate().toInstant(),
-						ZoneId.systemDefault());
-				final List<String> parentIds = new ArrayList<>();
-				if (entry.getRevision() > 1) {
-					parentIds.add(String.valueOf(entry.getRevision() - 1));
-				}
-				commits.add(getModelFactory().createCommit(pRevision, author,
-						entry.getMessage(), dt, parentIds, pFileChanges,
-						pIssues, this));
-			});
-			svnLog.run();
-			Validate.isTrue(commits.size() == 1,
-					"Unable to create commit for revision '%s'",
-					pRevision);
-			return commits.get(0);
+			return createCommit(pRevision, readCommitInfo(pRevision),
+					pFileChanges, pIssues);
 		} catch (final SVNException e) {
 			throw new IOException(e);
-		} finally {
-			factory.dispose();
+		}
+	}
+
+	/**
+	 * Externals are not covered by the changes of a revision (see
+	 * {@link #createChangesImpl(String, String)}). Hence, the files of a
+	 * revision whose working copy has externals are listed.
+	 */
+	@Override
+	protected boolean requiresListing() {
+		return externals;
+	}
+
+	@Override
+	public void close() {
+		super.close();
+		synchronized (this) {
+			if (session != null) {
+				session.closeSession();
+				session = null;
+			}
+			if (clientManager != null) {
+				clientManager.dispose();
+				clientManager = null;
+			}
+			if (operationFactory != null) {
+				operationFactory.dispose();
+				operationFactory = null;
+			}
+		}
+		synchronized (annotateInfos) {
+			annotateInfos.clear();
 		}
 	}
 
@@ -47,9 +47,10 @@ public class RangeTest {
 
 	private FileChange createFileChangeFromResource(String oldFile,
 			String newFile) throws IOException {
-		VCSEngine engine = mock(AbstractVSCEngine.class);
+		AbstractVSCEngine engine = mock(AbstractVSCEngine.class);
 		when(engine.getModelFactory()).thenReturn(modelFactory);
 		when(engine.computeDiff(any())).thenCallRealMethod();
+		when(engine.computeLineDiff(any())).thenCallRealMethod();
 		Revision revision1 = mock(Revision.class);
 		when(revision1.getId()).thenReturn("1");
 		when(revision1.getOutput()).thenReturn(Paths.get("/tmp"));
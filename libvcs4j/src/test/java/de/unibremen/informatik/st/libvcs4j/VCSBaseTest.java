@@ -18,6 +18,7 @@ import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
@@ -245,6 +246,30 @@ public abstract class VCSBaseTest {
 		}
 	}
 
+	@Test
+	public void filesMatchOutput() throws IOException {
+		VCSEngine engine = createBuilder().build();
+		int numRanges = 0;
+		for (RevisionRange range : engine) {
+			numRanges++;
+			Path output = engine.getOutput();
+			List<String> listed = engine.listFilesInOutput().stream()
+					.map(output::relativize)
+					.map(Path::toString)
+					.sorted()
+					.collect(Collectors.toList());
+			List<String> files = range.getRevision().getFiles().stream()
+					.map(VCSFile::getRelativePath)
+					.collect(Collectors.toList());
+			assertThat(files)
+					.as("Files of revision %s",
+							range.getRevision().getId())
+					.isSorted()
+					.containsExactlyElementsOf(listed);
+		}
+		assertThat(numRanges).isGreaterThan(0);
+	}
+
 	@Test
 	public void processSubDir() throws IOException {
 		List<String> commitIds = readIds(getSubDirCommitIdFile());
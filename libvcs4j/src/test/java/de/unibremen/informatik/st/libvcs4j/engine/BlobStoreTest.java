@@ -0,0 +1,69 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BlobStoreTest {
+
+	@Test
+	public void getReturnsCopy() {
+		final BlobStore store = new BlobStore();
+		final byte[] bytes = { 1, 2, 3 };
+		store.putBytes("a", bytes);
+		bytes[0] = 0;
+
+		final byte[] stored = store.getBytes("a")
+				.orElseThrow(AssertionError::new);
+		assertThat(stored).containsExactly(1, 2, 3);
+		stored[1] = 0;
+		assertThat(store.getBytes("a").orElseThrow(AssertionError::new))
+				.containsExactly(1, 2, 3);
+		assertThat(store.getBytes("b")).isEmpty();
+		assertThat(store.getHits()).isEqualTo(2);
+		assertThat(store.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		final BlobStore store = new BlobStore(1024);
+		store.putBytes("a", new byte[300]);
+		store.putBytes("b", new byte[300]);
+		assertThat(store.getBytes("a")).isPresent();
+		store.putBytes("c", new byte[300]);
+
+		assertThat(store.size()).isLessThanOrEqualTo(1024);
+		assertThat(store.getBytes("a")).isPresent();
+		assertThat(store.getBytes("b")).isEmpty();
+		assertThat(store.getBytes("c")).isPresent();
+	}
+
+	@Test
+	public void contentExceedingBudgetIsNotStored() {
+		final BlobStore store = new BlobStore(1024);
+		store.putBytes("a", new byte[2048]);
+		assertThat(store.getBytes("a")).isEmpty();
+		assertThat(store.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void charsetAndBinary() {
+		final BlobStore store = new BlobStore();
+		assertThat(store.findGuessedCharset("a")).isEmpty();
+		assertThat(store.getBinary("a", "A.java")).isNull();
+
+		final Optional<Charset> charset = Optional.of(StandardCharsets.UTF_8);
+		store.putCharset("a", charset);
+		store.putCharset("b", Optional.empty());
+		store.putBinary("a", "A.java", false);
+
+		assertThat(store.findGuessedCharset("a")).contains(charset);
+		assertThat(store.findGuessedCharset("b")).contains(Optional.empty());
+		assertThat(store.getBinary("a", "A.java")).isFalse();
+		assertThat(store.getBinary("a", "A.png")).isNull();
+	}
+}
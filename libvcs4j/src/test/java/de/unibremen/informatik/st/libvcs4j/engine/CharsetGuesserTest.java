@@ -0,0 +1,50 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CharsetGuesserTest {
+
+	@Test
+	public void ascii() {
+		assertThat(CharsetGuesser.guess(
+				"class A {}\n".getBytes(StandardCharsets.US_ASCII)))
+				.contains(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void utf8() {
+		assertThat(CharsetGuesser.guess(
+				"\u00e4\u00f6\u00fc \u20ac \ud83d\ude00"
+						.getBytes(StandardCharsets.UTF_8)))
+				.contains(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void byteOrderMarks() {
+		assertThat(CharsetGuesser.guess(new byte[] {
+				(byte) 0xFE, (byte) 0xFF, 0x00, 'a' }))
+				.contains(StandardCharsets.UTF_16BE);
+		assertThat(CharsetGuesser.guess(new byte[] {
+				(byte) 0xFF, (byte) 0xFE, 'a', 0x00 }))
+				.contains(StandardCharsets.UTF_16LE);
+		assertThat(CharsetGuesser.guess(new byte[] {
+				0x00, 0x00, (byte) 0xFE, (byte) 0xFF, 0x00, 0x00, 0x00, 'a' }))
+				.contains(Charset.forName("UTF-32BE"));
+		assertThat(CharsetGuesser.guess(new byte[] {
+				(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'a' }))
+				.contains(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void latin1IsNotUTF8() {
+		assertThat(CharsetGuesser.guess(
+				"\u00e4\u00f6\u00fc".getBytes(StandardCharsets.ISO_8859_1))
+				.orElse(null))
+				.isNotEqualTo(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,81 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class DiffCacheTest {
+
+	private static final LineDiff DIFF = LineDiff.compute(
+			"a\n".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8,
+			"b\n".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+	@Test
+	public void hitsAndMisses() {
+		final DiffCache cache = new DiffCache();
+		assertThat(cache.get("a", "b")).isEmpty();
+		cache.put("a", "b", DIFF);
+		assertThat(cache.get("a", "b")).containsSame(DIFF);
+		assertThat(cache.get("b", "a")).isEmpty();
+		assertThat(cache.getHits()).isEqualTo(1);
+		assertThat(cache.getMisses()).isEqualTo(2);
+	}
+
+	@Test
+	public void missingFiles() {
+		final DiffCache cache = new DiffCache();
+		cache.put(null, "b", DIFF);
+		assertThat(cache.get(null, "b")).containsSame(DIFF);
+		assertThat(cache.get("b", null)).isEmpty();
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		final long bytes = retainedBytes();
+		final DiffCache cache = new DiffCache(2 * bytes);
+		cache.put("a", "b", DIFF);
+		cache.put("c", "d", DIFF);
+		assertThat(cache.get("a", "b")).isPresent();
+		cache.put("e", "f", DIFF);
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getRetainedBytes()).isEqualTo(2 * bytes);
+		assertThat(cache.get("a", "b")).isPresent();
+		assertThat(cache.get("c", "d")).isEmpty();
+		assertThat(cache.get("e", "f")).isPresent();
+	}
+
+	@Test
+	public void skipDiffsExceedingBudget() {
+		final DiffCache cache = new DiffCache(retainedBytes() - 1);
+		cache.put("a", "b", DIFF);
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.getRetainedBytes()).isEqualTo(0);
+	}
+
+	@Test
+	public void clear() {
+		final DiffCache cache = new DiffCache();
+		cache.put("a", "b", DIFF);
+		cache.get("a", "b");
+		cache.clear();
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.getRetainedBytes()).isEqualTo(0);
+		assertThat(cache.getHits()).isEqualTo(0);
+		assertThat(cache.getMisses()).isEqualTo(0);
+	}
+
+	@Test
+	public void nonPositiveBudget() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new DiffCache(0));
+	}
+
+	private static long retainedBytes() {
+		final DiffCache cache = new DiffCache();
+		cache.put("a", "b", DIFF);
+		return cache.getRetainedBytes();
+	}
+}
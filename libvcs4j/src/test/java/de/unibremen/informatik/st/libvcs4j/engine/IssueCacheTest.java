@@ -0,0 +1,166 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import de.unibremen.informatik.st.libvcs4j.ITEngine;
+import de.unibremen.informatik.st.libvcs4j.Issue;
+import de.unibremen.informatik.st.libvcs4j.ItModelFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IssueCacheTest {
+
+	private static final LocalDateTime DATE_TIME =
+			LocalDateTime.of(2018, 5, 1, 12, 30);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ITEngine mockEngine() throws IOException {
+		final ITEngine engine = mock(ITEngine.class);
+		final ItModelFactory factory = new ItModelFactory() {};
+		when(engine.getRepository()).thenReturn("owner/repo");
+		when(engine.getModelFactory()).thenReturn(factory);
+		final Issue.Comment comment = factory.createComment("bob",
+				"Fixed in \u00e4\u00f6\u00fc", DATE_TIME, engine);
+		final Issue issue = factory.createIssue("1", "alice", "Crash",
+				DATE_TIME, Collections.singletonList(comment), engine);
+		when(engine.getIssueById("1")).thenReturn(Optional.of(issue));
+		when(engine.getIssueById("2")).thenReturn(Optional.empty());
+		return engine;
+	}
+
+	private Path cacheFile() {
+		return folder.getRoot().toPath().resolve("issues.cache");
+	}
+
+	private static void assertIssue(final Optional<Issue> pIssue) {
+		assertThat(pIssue).isPresent();
+		final Issue issue = pIssue.get();
+		assertThat(issue.getId()).isEqualTo("1");
+		assertThat(issue.getAuthor()).isEqualTo("alice");
+		assertThat(issue.getTitle()).isEqualTo("Crash");
+		assertThat(issue.getDateTime()).isEqualTo(DATE_TIME);
+		assertThat(issue.getComments()).hasSize(1);
+		final Issue.Comment comment = issue.getComments().get(0);
+		assertThat(comment.getAuthor()).isEqualTo("bob");
+		assertThat(comment.getMessage())
+				.isEqualTo("Fixed in \u00e4\u00f6\u00fc");
+		assertThat(comment.getDateTime()).isEqualTo(DATE_TIME);
+	}
+
+	@Test
+	public void fetchOnce() throws IOException {
+		final ITEngine engine = mockEngine();
+		try (IssueCache cache = new IssueCache(engine, cacheFile())) {
+			assertIssue(cache.getIssueById("1"));
+			assertIssue(cache.getIssueById("1"));
+			assertThat(cache.getIssueById("2")).isEmpty();
+			assertThat(cache.getIssueById("2")).isEmpty();
+			assertThat(cache.size()).isEqualTo(2);
+			assertThat(cache.getHits()).isEqualTo(2);
+			assertThat(cache.getMisses()).isEqualTo(2);
+		}
+		verify(engine, times(1)).getIssueById("1");
+		verify(engine, times(1)).getIssueById("2");
+	}
+
+	@Test
+	public void reopen() throws IOException {
+		final ITEngine engine = mockEngine();
+		try (IssueCache cache = new IssueCache(engine, cacheFile())) {
+			cache.getIssueById("1");
+			cache.getIssueById("2");
+		}
+		try (IssueCache cache = new IssueCache(engine, cacheFile())) {
+			assertIssue(cache.getIssueById("1"));
+			assertThat(cache.getIssueById("2")).isEmpty();
+			assertThat(cache.getIssueById("1").get().getITEngine())
+					.isSameAs(cache);
+		}
+		verify(engine, times(1)).getIssueById("1");
+		verify(engine, times(1)).getIssueById("2");
+	}
+
+	@Test
+	public void offline() throws IOException {
+		try (IssueCache cache = new IssueCache(mockEngine(), cacheFile())) {
+			cache.getIssueById("1");
+		}
+		try (IssueCache cache = new IssueCache("owner/repo", cacheFile())) {
+			assertThat(cache.isOffline()).isTrue();
+			assertIssue(cache.getIssueById("1"));
+			assertThat(cache.getIssueById("3")).isEmpty();
+		}
+	}
+
+	@Test
+	public void maxAge() throws IOException {
+		final ITEngine engine = mockEngine();
+		try (IssueCache cache = new IssueCache(engine, cacheFile())) {
+			cache.setMaxAge(Duration.ofDays(1));
+			cache.getIssueById("1");
+			cache.getIssueById("1");
+			verify(engine, times(1)).getIssueById("1");
+			cache.setMaxAge(Duration.ZERO);
+			assertIssue(cache.getIssueById("1"));
+			verify(engine, times(2)).getIssueById("1");
+			cache.setOffline(true);
+			assertIssue(cache.getIssueById("1"));
+		}
+		verify(engine, times(2)).getIssueById("1");
+	}
+
+	@Test
+	public void truncatedRecord() throws IOException {
+		final ITEngine engine = mockEngine();
+		try (IssueCache cache = new IssueCache(engine, cacheFile())) {
+			cache.getIssueById("1");
+			cache.getIssueById("2");
+		}
+		final long size = Files.size(cacheFile());
+		Files.newByteChannel(cacheFile(), StandardOpenOption.WRITE)
+				.truncate(size - 3).close();
+		try (IssueCache cache = new IssueCache(engine, cacheFile())) {
+			assertThat(cache.size()).isEqualTo(1);
+			assertIssue(cache.getIssueById("1"));
+			assertThat(cache.getIssueById("2")).isEmpty();
+		}
+		verify(engine, times(1)).getIssueById("1");
+		verify(engine, times(2)).getIssueById("2");
+	}
+
+	@Test
+	public void otherRepository() throws IOException {
+		try (IssueCache cache = new IssueCache(mockEngine(), cacheFile())) {
+			cache.getIssueById("1");
+		}
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new IssueCache("other/repo", cacheFile()));
+	}
+
+	@Test
+	public void nullId() throws IOException {
+		final ITEngine engine = mockEngine();
+		try (IssueCache cache = new IssueCache(engine, cacheFile())) {
+			assertThat(cache.getIssueById(null)).isEmpty();
+		}
+		verify(engine, never()).getIssueById(null);
+	}
+}
@@ -0,0 +1,72 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LineDiffTest {
+
+	private static LineDiff diff(final String old, final String nev,
+			final Charset charset) {
+		return LineDiff.compute(
+				old == null ? null : old.getBytes(charset), charset,
+				nev == null ? null : nev.getBytes(charset), charset);
+	}
+
+	private static LineDiff diff(final String old, final String nev) {
+		return diff(old, nev, StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void identical() {
+		final LineDiff diff = diff("a\nb\nc\n", "a\nb\nc\n");
+		assertThat(diff.getNumHunks()).isEqualTo(0);
+		assertThat(diff.getNumLineChanges()).isEqualTo(0);
+		assertThat(diff.getNumOldLines()).isEqualTo(3);
+		assertThat(diff.getNumNewLines()).isEqualTo(3);
+	}
+
+	@Test
+	public void modifiedLine() {
+		final LineDiff diff = diff("a\nb\nc\n", "a\nx\nc\n");
+		assertThat(diff.getNumHunks()).isEqualTo(1);
+		assertThat(diff.getOldLine(0)).isEqualTo(2);
+		assertThat(diff.getNumDeleted(0)).isEqualTo(1);
+		assertThat(diff.getNewLine(0)).isEqualTo(2);
+		assertThat(diff.getNumInserted(0)).isEqualTo(1);
+		assertThat(diff.getLineDelta()).isEqualTo(0);
+		assertThat(diff.readOldLine(2)).isEqualTo("b");
+		assertThat(diff.readNewLine(2)).isEqualTo("x");
+	}
+
+	@Test
+	public void lineSeparatorsAndTrailingEmptyLinesAreIgnored() {
+		final LineDiff diff = diff("a\r\nb\r\n\r\n\n", "a\nb");
+		assertThat(diff.getNumHunks()).isEqualTo(0);
+		assertThat(diff.getNumOldLines()).isEqualTo(2);
+		assertThat(diff.getNumNewLines()).isEqualTo(2);
+	}
+
+	@Test
+	public void emptyAndMissingContent() {
+		final LineDiff diff = diff(null, "a\nb\n");
+		assertThat(diff.getNumHunks()).isEqualTo(1);
+		assertThat(diff.getNumDeleted(0)).isEqualTo(0);
+		assertThat(diff.getNumInserted(0)).isEqualTo(2);
+		assertThat(diff.getLineDelta()).isEqualTo(2);
+		assertThat(diff.readNewLine(1)).isEqualTo("a");
+	}
+
+	@Test
+	public void nonAsciiCompatibleCharset() {
+		final LineDiff diff = diff("a\n\u00e4\nc\n", "a\nc\n\u00f6\n",
+				StandardCharsets.UTF_16);
+		assertThat(diff.getNumDeleted(0)).isEqualTo(1);
+		assertThat(diff.readOldLine(diff.getOldLine(0))).isEqualTo("\u00e4");
+		assertThat(diff.getNumInserted(1)).isEqualTo(1);
+		assertThat(diff.readNewLine(diff.getNewLine(1))).isEqualTo("\u00f6");
+	}
+}
@@ -0,0 +1,89 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import de.unibremen.informatik.st.libvcs4j.Commit;
+import de.unibremen.informatik.st.libvcs4j.LineInfo;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LineInfoCacheTest {
+
+	private static LineInfo lineInfo(final String id) {
+		final LineInfo lineInfo = mock(LineInfo.class);
+		when(lineInfo.getId()).thenReturn(id);
+		when(lineInfo.getAuthor()).thenReturn("author " + id);
+		when(lineInfo.getMessage()).thenReturn("message " + id);
+		when(lineInfo.getDateTime()).thenReturn(LocalDateTime.MIN);
+		return lineInfo;
+	}
+
+	@Test
+	public void attributionsAreShared() {
+		final LineInfoCache cache = new LineInfoCache();
+		final LineInfoCache.Attribution[] attributions = cache.attributionsOf(
+				"1", Arrays.asList(lineInfo("a"), lineInfo("b"),
+						lineInfo("a")));
+		assertThat(attributions).hasSize(3);
+		assertThat(attributions[0]).isSameAs(attributions[2]);
+		assertThat(attributions[0].id).isEqualTo("a");
+		assertThat(attributions[0].author).isEqualTo("author a");
+		assertThat(attributions[1].message).isEqualTo("message b");
+
+		final Commit commit = mock(Commit.class);
+		when(commit.getId()).thenReturn("a");
+		assertThat(cache.attributionOf("1", commit))
+				.isSameAs(attributions[0]);
+	}
+
+	@Test
+	public void getAndPut() {
+		final LineInfoCache cache = new LineInfoCache();
+		final LineInfoCache.Attribution[] attributions =
+				cache.attributionsOf("1", Arrays.asList(lineInfo("a")));
+		assertThat(cache.get("1", "A.java")).isNull();
+		cache.put("1", "A.java", attributions);
+		assertThat(cache.get("1", "A.java")).isSameAs(attributions);
+		assertThat(cache.get("2", "A.java")).isNull();
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void evictOldestRevision() {
+		final LineInfoCache cache = new LineInfoCache(2);
+		final LineInfoCache.Attribution[] attributions =
+				new LineInfoCache.Attribution[0];
+		cache.put("1", "A.java", attributions);
+		cache.put("2", "A.java", attributions);
+		cache.put("2", "B.java", attributions);
+		assertThat(cache.get("1", "A.java")).isNotNull();
+		cache.put("3", "A.java", attributions);
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get("1", "A.java")).isNull();
+		assertThat(cache.get("2", "B.java")).isNotNull();
+		assertThat(cache.get("3", "A.java")).isNotNull();
+	}
+
+	@Test
+	public void clear() {
+		final LineInfoCache cache = new LineInfoCache();
+		cache.put("1", "A.java", new LineInfoCache.Attribution[0]);
+		cache.hit();
+		cache.miss();
+		cache.clear();
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.getHits()).isEqualTo(0);
+		assertThat(cache.getMisses()).isEqualTo(0);
+	}
+
+	@Test
+	public void nonPositiveNumRevisions() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new LineInfoCache(0));
+	}
+}
@@ -0,0 +1,70 @@
+package de.unibremen.informatik.st.libvcs4j.engine;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class RateLimiterTest {
+
+	@Test
+	public void burst() {
+		final RateLimiter limiter = RateLimiter.perHour(1, 3);
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+	}
+
+	@Test
+	public void refill() throws IOException {
+		final RateLimiter limiter = new RateLimiter(1000, 1);
+		final long start = System.nanoTime();
+		for (int i = 0; i < 20; i++) {
+			limiter.acquire();
+		}
+		// 19 tokens had to be refilled
+		assertThat(System.nanoTime() - start).isGreaterThan(19_000_000L);
+	}
+
+	@Test
+	public void exhaustedQuota() {
+		final RateLimiter limiter = new RateLimiter(1000, 10);
+		limiter.update(0, Instant.now().plusSeconds(60));
+		assertThat(limiter.tryAcquire()).isFalse();
+	}
+
+	@Test
+	public void remainingQuota() {
+		final RateLimiter limiter = RateLimiter.perHour(1, 10);
+		limiter.update(1, Instant.now().plusSeconds(60));
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+	}
+
+	@Test
+	public void resetQuota() {
+		final RateLimiter limiter = new RateLimiter(1000, 10);
+		limiter.update(0, Instant.now().minusSeconds(1));
+		assertThat(limiter.tryAcquire()).isFalse();
+		// refilled after a millisecond
+		final long start = System.nanoTime();
+		while (!limiter.tryAcquire()) {
+			assertThat(System.nanoTime() - start).isLessThan(1_000_000_000L);
+		}
+	}
+
+	@Test
+	public void invalidArguments() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new RateLimiter(0, 1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new RateLimiter(1, 0));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new RateLimiter(1, 1).update(-1,
+						Instant.now()));
+	}
+}
@@ -0,0 +1,108 @@
+package de.unibremen.informatik.st.libvcs4j.git;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CommitIndexTest {
+
+	private static final String TREE =
+			"4b825dc642cb6eb9a060e54bf8d69288fbee4904";
+
+	private static final String P1 =
+			"24abf3a5d2e54d815ef35b85ffd786023784d073";
+
+	private static final String P2 =
+			"a41cb1dcc6513133e9466331c1f73143dca5e422";
+
+	private static RevCommit commit(final String author, final long seconds,
+			final String timeZone, final String message,
+			final String... parents) {
+		final StringBuilder raw = new StringBuilder();
+		raw.append("tree ").append(TREE).append('\n');
+		for (final String parent : parents) {
+			raw.append("parent ").append(parent).append('\n');
+		}
+		final String ident = author + " <mail@example.com> " + seconds
+				+ " " + timeZone;
+		raw.append("author ").append(ident).append('\n');
+		raw.append("committer ").append(ident).append('\n');
+		raw.append('\n').append(message);
+		return RevCommit.parse(raw.toString()
+				.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void addAndGet() {
+		final CommitIndex index = new CommitIndex();
+		final RevCommit c1 = commit("Samuel Audet", 1460035880L, "+0900",
+				"Fix potential compilation error\n", P1);
+		final RevCommit c2 = commit("Jane Doe", 0L, "+0000",
+				"Merge\r\n", P1, P2);
+		final RevCommit c3 = commit("Samuel Audet", 60L, "-0130",
+				"Initial commit");
+
+		assertThat(index.add(c1)).isEqualTo(0);
+		assertThat(index.add(c2)).isEqualTo(1);
+		assertThat(index.add(c3)).isEqualTo(2);
+		assertThat(index.size()).isEqualTo(3);
+
+		assertThat(index.getId(0)).isEqualTo(c1.getName());
+		assertThat(index.getAuthor(0)).isEqualTo("Samuel Audet");
+		assertThat(index.getMessage(0))
+				.isEqualTo("Fix potential compilation error");
+		assertThat(index.getDateTime(0))
+				.isEqualTo(LocalDateTime.of(2016, 4, 7, 22, 31, 20));
+		assertThat(index.getParentIds(0))
+				.isEqualTo(Collections.singletonList(P1));
+
+		assertThat(index.getAuthor(1)).isEqualTo("Jane Doe");
+		assertThat(index.getMessage(1)).isEqualTo("Merge");
+		assertThat(index.getTimestamp(1)).isEqualTo(0L);
+		assertThat(index.getParentIds(1)).isEqualTo(Arrays.asList(P1, P2));
+
+		assertThat(index.getMessage(2)).isEqualTo("Initial commit");
+		assertThat(index.getDateTime(2))
+				.isEqualTo(LocalDateTime.of(1969, 12, 31, 22, 31, 0));
+		assertThat(index.getParentIds(2)).isEmpty();
+	}
+
+	@Test
+	public void indexOf() {
+		final CommitIndex index = new CommitIndex();
+		final RevCommit c1 = commit("A", 0L, "+0000", "1");
+		final RevCommit c2 = commit("B", 1L, "+0000", "2", P1);
+		index.add(c1);
+		index.add(c2);
+
+		assertThat(index.indexOf(c1.getName())).isEqualTo(0);
+		assertThat(index.indexOf(c2.getName())).isEqualTo(1);
+		assertThat(index.indexOf(P1)).isEqualTo(-1);
+		assertThat(index.indexOf("24abf")).isEqualTo(-1);
+		// adding a commit twice has no effect
+		assertThat(index.add(c1)).isEqualTo(0);
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void growBeyondInitialCapacity() {
+		final CommitIndex index = new CommitIndex();
+		for (int i = 0; i < 1000; i++) {
+			index.add(commit("Author " + (i % 7), i, "+0000",
+					"Message " + i, P1, P2));
+		}
+		assertThat(index.size()).isEqualTo(1000);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(index.getAuthor(i)).isEqualTo("Author " + (i % 7));
+			assertThat(index.getMessage(i)).isEqualTo("Message " + i);
+			assertThat(index.getTimestamp(i)).isEqualTo(i * 1000L);
+			assertThat(index.getParentIds(i)).containsExactly(P1, P2);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package de.unibremen.informatik.st.libvcs4j.git;
 
 import de.unibremen.informatik.st.libvcs4j.*;
+import de.unibremen.informatik.st.libvcs4j.engine.PipelineOptions;
 import org.junit.Test;
 
 import java.io.IOException;
@@ -11,9 +12,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -297,4 +300,148 @@ public class JavaCPPTest extends VCSBaseTest {
 				buildMojo,
 				lineInfo.get(1).getFile());
 	}
+
+	@Test
+	public void bareModeEqualsCheckout() throws IOException {
+		VCSEngine checkout = createBuilder()
+				.withEndIdx(10)
+				.build();
+		VCSEngine bare = createBuilder()
+				.withEndIdx(10)
+				.withBareMode()
+				.build();
+
+		List<RevisionRange> checkoutRanges = new ArrayList<>();
+		checkout.forEach(checkoutRanges::add);
+		List<RevisionRange> bareRanges = new ArrayList<>();
+		bare.forEach(bareRanges::add);
+		assertEquals(checkoutRanges.size(), bareRanges.size());
+
+		for (int i = 0; i < checkoutRanges.size(); i++) {
+			Map<String, VCSFile> checkoutFiles = checkoutRanges.get(i)
+					.getRevision()
+					.getFiles()
+					.stream()
+					.collect(Collectors.toMap(
+							VCSFile::getRelativePath, f -> f));
+			Map<String, VCSFile> bareFiles = bareRanges.get(i)
+					.getRevision()
+					.getFiles()
+					.stream()
+					.collect(Collectors.toMap(
+							VCSFile::getRelativePath, f -> f));
+			assertEquals(checkoutFiles.keySet(), bareFiles.keySet());
+			for (String path : checkoutFiles.keySet()) {
+				assertArrayEquals(
+						checkoutFiles.get(path).readAllBytes(),
+						bareFiles.get(path).readAllBytes());
+			}
+			assertEquals(
+					checkoutRanges.get(i).getFileChanges().size(),
+					bareRanges.get(i).getFileChanges().size());
+		}
+		bareRanges.stream()
+				.map(RevisionRange::getRevision)
+				.map(Revision::getFiles)
+				.flatMap(Collection::stream)
+				.forEach(f -> assertFalse(f.toFile().exists()));
+	}
+
+	@Test
+	public void reopenAfterClose() throws IOException {
+		try (VCSEngine engine = createBuilder()
+				.withEndIdx(3)
+				.build()) {
+			assertTrue(engine.next().isPresent());
+			engine.close();
+			Optional<RevisionRange> range = engine.next();
+			assertTrue(range.isPresent());
+			for (FileChange fileChange : range.get().getFileChanges()) {
+				fileChange.computeDiff();
+			}
+		}
+	}
+
+	@Test
+	public void pipelinedEqualsSequential() throws IOException {
+		VCSEngine sequential = createBuilder()
+				.withEndIdx(20)
+				.build();
+		VCSEngine pipelined = createBuilder()
+				.withEndIdx(20)
+				.withPipelineOptions(new PipelineOptions(4, 2))
+				.build();
+
+		List<RevisionRange> sequentialRanges = new ArrayList<>();
+		sequential.forEach(sequentialRanges::add);
+		List<RevisionRange> pipelinedRanges = new ArrayList<>();
+		pipelined.forEach(pipelinedRanges::add);
+		pipelined.close();
+		assertEquals(sequentialRanges.size(), pipelinedRanges.size());
+
+		for (int i = 0; i < sequentialRanges.size(); i++) {
+			RevisionRange expected = sequentialRanges.get(i);
+			RevisionRange actual = pipelinedRanges.get(i);
+			assertEquals(expected.getOrdinal(), actual.getOrdinal());
+			assertEquals(expected.getRevision().getId(),
+					actual.getRevision().getId());
+			Commit expectedCommit = expected.getLatestCommit();
+			Commit actualCommit = actual.getLatestCommit();
+			assertEquals(expectedCommit.getAuthor(), actualCommit.getAuthor());
+			assertEquals(expectedCommit.getMessage(),
+					actualCommit.getMessage());
+			assertEquals(expectedCommit.getDateTime(),
+					actualCommit.getDateTime());
+			assertEquals(expectedCommit.getParentIds(),
+					actualCommit.getParentIds());
+			assertEquals(expected.getFileChanges().size(),
+					actual.getFileChanges().size());
+		}
+	}
+
+	private static List<String> describe(RevisionRange range) {
+		return range.getFileChanges()
+				.stream()
+				.map(fc -> fc.getType() + " "
+						+ fc.getOldFile().map(VCSFile::getRelativePath)
+								.orElse("-") + " "
+						+ fc.getNewFile().map(VCSFile::getRelativePath)
+								.orElse("-"))
+				.sorted()
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void seededShardsEqualSingleEngine() throws IOException {
+		List<RevisionRange> expected = new ArrayList<>();
+		createBuilder()
+				.withEndIdx(12)
+				.build()
+				.forEach(expected::add);
+
+		List<RevisionRange> actual = new ArrayList<>();
+		for (int start = 0; start < 12; start += 4) {
+			createBuilder()
+					.withStartIdx(start)
+					.withEndIdx(start + 4)
+					.withSeededStart()
+					.build()
+					.forEach(actual::add);
+		}
+		assertEquals(expected.size(), actual.size());
+
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getOrdinal(),
+					actual.get(i).getOrdinal());
+			assertEquals(expected.get(i).getRevision().getId(),
+					actual.get(i).getRevision().getId());
+			assertEquals(
+					expected.get(i).getPredecessorRevision()
+							.map(Revision::getId),
+					actual.get(i).getPredecessorRevision()
+							.map(Revision::getId));
+			assertEquals(describe(expected.get(i)),
+					describe(actual.get(i)));
+		}
+	}
 }
\ No newline at end of file
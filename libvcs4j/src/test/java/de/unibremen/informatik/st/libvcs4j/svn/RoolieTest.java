@@ -1,6 +1,7 @@
 package de.unibremen.informatik.st.libvcs4j.svn;
 
 import de.unibremen.informatik.st.libvcs4j.*;
+import de.unibremen.informatik.st.libvcs4j.engine.Changes;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
@@ -8,6 +9,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -146,6 +148,40 @@ public class RoolieTest extends VCSBaseTest {
 						"* Removed PGP key generation from build.\n");
 	}
 
+	@Test
+	public void changesFromLogMatchDiffSummary() throws Exception {
+		SVNEngine engine = (SVNEngine) createBuilder().build();
+		List<String> revisions = engine.listRevisions();
+
+		int compared = 0;
+		for (int i = 1; i < revisions.size(); i++) {
+			String from = revisions.get(i - 1);
+			String to = revisions.get(i);
+			Optional<Changes> fromLog = engine.createChangesFromLog(from, to);
+			if (!fromLog.isPresent()) {
+				continue;
+			}
+			compared++;
+			Changes fromDiff = engine.createChangesFromDiff(from, to);
+			assertThat(fromLog.get().getAdded())
+					.as("Added files of revision %s", to)
+					.containsExactlyInAnyOrderElementsOf(fromDiff.getAdded());
+			assertThat(fromLog.get().getRemoved())
+					.as("Removed files of revision %s", to)
+					.containsExactlyInAnyOrderElementsOf(
+							fromDiff.getRemoved());
+			assertThat(fromLog.get().getModified())
+					.as("Modified files of revision %s", to)
+					.containsExactlyInAnyOrderElementsOf(
+							fromDiff.getModified());
+			assertThat(fromLog.get().getRelocated())
+					.as("Relocated files of revision %s", to)
+					.containsExactlyInAnyOrderElementsOf(
+							fromDiff.getRelocated());
+		}
+		assertThat(compared).isGreaterThan(0);
+	}
+
 	///////////////////////// Revision interval tests /////////////////////////
 
 	@Test